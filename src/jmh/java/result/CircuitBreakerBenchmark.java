@@ -0,0 +1,52 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Closed path of CircuitBreaker versus plain runCatching and rejection of open breaker, under 8 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    final CircuitBreaker closed = new CircuitBreaker(0.5, 100, Duration.ofSeconds(10), Duration.ofHours(1));
+    final CircuitBreaker open = new CircuitBreaker(0.5, 1, Duration.ofSeconds(10), Duration.ofHours(1));
+
+    int value = 42;
+
+    public CircuitBreakerBenchmark() {
+        open.runCatching(() -> {throw new Exception();});
+    }
+
+    @Benchmark
+    public Result<Integer> runCatching() {
+        return Result.runCatching(() -> value);
+    }
+
+    @Benchmark
+    public Result<Integer> closed() {
+        return closed.runCatching(() -> value);
+    }
+
+    @Benchmark
+    public Result<Integer> open() {
+        return open.runCatching(() -> value);
+    }
+}
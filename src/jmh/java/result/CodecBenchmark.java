@@ -0,0 +1,72 @@
+package result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trip of Success and Failure through ResultCodec versus ObjectOutputStream.
+ * Result records are not Serializable, so serialization baseline writes equivalent serializable envelope.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    record Envelope(String value, Exception exception) implements Serializable {}
+
+    @Param({"success", "failure"})
+    String kind;
+
+    final ResultCodec<String> codec = new ResultCodec<>(ResultCodec.ValueCodec.STRING, 8);
+    final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    Result<String> result;
+    Envelope envelope;
+
+    @Setup
+    public void setUp() {
+        result = kind.equals("success")
+                ? Success.of("order-12345")
+                : Result.runCatching(() -> {throw new IOException("connection reset");});
+        envelope = new Envelope(result.getOrNull(), result.exceptionOrNull());
+    }
+
+    @Benchmark
+    public Result<String> codec() {
+        buffer.clear();
+        codec.encode(result, buffer);
+        buffer.flip();
+        return codec.decode(buffer);
+    }
+
+    @Benchmark
+    public Object serialization() throws Exception {
+        var bytes = new ByteArrayOutputStream(1024);
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(envelope);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
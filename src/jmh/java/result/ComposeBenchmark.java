@@ -0,0 +1,80 @@
+package result;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Composition styles from ComposeTest: naive isSuccess/getOrNull,
+ * fold based flatMap/map and record pattern matching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComposeBenchmark {
+
+    Result<Integer> one = Success.of(1);
+    Result<Integer> two = Success.of(2);
+    Result<Integer> failure = Failure.of(new IOException("failure"));
+
+    @Benchmark
+    public Result<Integer> naive() {
+        return sumResultsNaive(one, two);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMap() {
+        return sumResultsFlatMap(one, two);
+    }
+
+    @Benchmark
+    public Result<Integer> patternMatching() {
+        return sumResultsPatternMatching(one, two);
+    }
+
+    @Benchmark
+    public Result<Integer> naiveFailure() {
+        return sumResultsNaive(one, failure);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapFailure() {
+        return sumResultsFlatMap(one, failure);
+    }
+
+    @Benchmark
+    public Result<Integer> patternMatchingFailure() {
+        return sumResultsPatternMatching(one, failure);
+    }
+
+    Result<Integer> sumResultsNaive(Result<Integer> i1, Result<Integer> i2) {
+        if (i1.isSuccess() && i2.isSuccess()) {
+            return Success.of(i1.getOrNull() + i2.getOrNull());
+        }
+        return i1.isFailure() ? i1 : i2;
+    }
+
+    Result<Integer> sumResultsFlatMap(Result<Integer> i1, Result<Integer> i2) {
+        return i1.flatMap(x1 -> i2.map(x2 -> x1 + x2));
+    }
+
+    Result<Integer> sumResultsPatternMatching(Result<Integer> i1, Result<Integer> i2) {
+        record TwoInts(Result<Integer> i1, Result<Integer> i2) {};
+        return switch (new TwoInts(i1, i2)) {
+        case TwoInts(Success<Integer>(Integer x1), Success<Integer>(Integer x2)) -> Success.of(x1 + x2);
+        default -> i1.isFailure() ? i1 : i2;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Failure path of runCatching thrown at call stack depth 50, without interceptor
+ * and with {@link DedupInterceptor} counting repeated failures, fingerprinted by exception class only
+ * or with interception site frames.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DedupBenchmark {
+
+    @Param({"none", "dedup"})
+    String interceptor;
+
+    @Param({"0", "5"})
+    int frames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (interceptor.equals("dedup")) {
+            Failure.withInterceptor(new DedupInterceptor(frames, 1024, Duration.ofMinutes(1), e -> {}, r -> {}));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Benchmark
+    public Result<Integer> failure() {
+        return Result.runCatching(() -> deep(50));
+    }
+
+    int deep(int d) throws IllegalStateException {
+        if (d == 0) {
+            throw new IllegalStateException("outage");
+        }
+        return deep(d - 1);
+    }
+}
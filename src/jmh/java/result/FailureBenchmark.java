@@ -0,0 +1,93 @@
+package result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of failure path of runCatching thrown at the given call stack depth,
+ * for exceptions with full stack, {@link StacklessException}, shared exceptions
+ * and {@link Result#failure(String)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailureBenchmark {
+
+    @Param({"10", "100"})
+    int depth;
+
+    static class BusinessException extends Exception {
+        BusinessException() {
+            super("business");
+        }
+    }
+
+    static class StacklessBusinessException extends StacklessException {
+        StacklessBusinessException() {
+            super("business");
+        }
+    }
+
+    static final StacklessBusinessException SHARED = new StacklessBusinessException();
+
+    @Benchmark
+    public Result<Integer> fullStackException() {
+        return Result.runCatching(() -> deep(depth));
+    }
+
+    @Benchmark
+    public Result<Integer> stacklessException() {
+        return Result.runCatching(() -> deepStackless(depth));
+    }
+
+    @Benchmark
+    public Result<Integer> sharedException() {
+        return Result.runCatching(() -> deepShared(depth));
+    }
+
+    @Benchmark
+    public Result<Integer> stacklessFactory() {
+        return deepFactory(depth);
+    }
+
+    int deep(int d) throws BusinessException {
+        if (d == 0) {
+            throw new BusinessException();
+        }
+        return deep(d - 1);
+    }
+
+    int deepStackless(int d) throws StacklessBusinessException {
+        if (d == 0) {
+            throw new StacklessBusinessException();
+        }
+        return deepStackless(d - 1);
+    }
+
+    int deepShared(int d) throws StacklessBusinessException {
+        if (d == 0) {
+            throw SHARED;
+        }
+        return deepShared(d - 1);
+    }
+
+    Result<Integer> deepFactory(int d) {
+        if (d == 0) {
+            return Result.failure("business");
+        }
+        return deepFactory(d - 1);
+    }
+}
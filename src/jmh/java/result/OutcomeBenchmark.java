@@ -0,0 +1,67 @@
+package result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Expected "not found" error as Outcome.Err versus Failure, and success path of both.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutcomeBenchmark {
+
+    enum LookupError {NOT_FOUND}
+
+    static class NotFoundException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    int found = 42;
+    int missing = -1;
+
+    static Outcome<Integer, LookupError> findOutcome(int id) {
+        return id > 0 ? Outcome.ok(id) : Outcome.err(LookupError.NOT_FOUND);
+    }
+
+    static Result<Integer> findResult(int id) {
+        return Result.runCatching(() -> {
+            if (id < 0) {
+                throw new NotFoundException();
+            }
+            return id;
+        });
+    }
+
+    @Benchmark
+    public int outcomeOk() {
+        return findOutcome(found).map(i -> i + 1).getOrElse(e -> 0);
+    }
+
+    @Benchmark
+    public int outcomeErr() {
+        return findOutcome(missing).map(i -> i + 1).getOrElse(e -> 0);
+    }
+
+    @Benchmark
+    public int resultSuccess() {
+        return findResult(found).map(i -> i + 1).getOrElse(e -> 0);
+    }
+
+    @Benchmark
+    public int resultFailure() {
+        return findResult(missing).map(i -> i + 1).getOrElse(e -> 0);
+    }
+}
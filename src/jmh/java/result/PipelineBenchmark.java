@@ -0,0 +1,55 @@
+package result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Chain of five catching steps versus the same steps fused into ResultPipeline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    String input = "12345";
+
+    static final ResultPipeline<String, Long> pipeline = ResultPipeline.<String>start()
+            .mapCatching(Integer::parseInt)
+            .mapCatching(i -> i * 2L)
+            .onSuccessCatching(PipelineBenchmark::check)
+            .mapCatching(l -> l + 7)
+            .mapCatching(l -> l / 3);
+
+    @Benchmark
+    public Result<Long> chain() {
+        return Success.of(input)
+                .mapCatching(Integer::parseInt)
+                .mapCatching(i -> i * 2L)
+                .onSuccessCatching(PipelineBenchmark::check)
+                .mapCatching(l -> l + 7)
+                .mapCatching(l -> l / 3);
+    }
+
+    @Benchmark
+    public Result<Long> fused() {
+        return pipeline.apply(input);
+    }
+
+    static void check(long l) throws Exception {
+        if (l < 0) {
+            throw new Exception("negative");
+        }
+    }
+}
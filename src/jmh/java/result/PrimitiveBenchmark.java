@@ -0,0 +1,59 @@
+package result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Numeric pipeline over primitive IntResult versus boxed {@code Result<Integer>}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveBenchmark {
+
+    @Param({"1000"})
+    int size;
+
+    @Benchmark
+    public long boxed() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            int x = i;
+            sum += Result.runCatching(() -> x)
+                    .map(v -> v * 31)
+                    .mapCatching(v -> v + 1000)
+                    .filter(v -> v % 3 != 0)
+                    .recover(e -> 0)
+                    .getOrElse(e -> -1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitive() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            int x = i;
+            sum += IntResult.runCatching(() -> x)
+                    .map(v -> v * 31)
+                    .mapCatching(v -> v + 1000)
+                    .filter(v -> v % 3 != 0)
+                    .recover(e -> 0)
+                    .getOrElse(-1);
+        }
+        return sum;
+    }
+}
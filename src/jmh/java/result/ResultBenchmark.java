@@ -0,0 +1,162 @@
+package result;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of single Result combinators on Success and Failure,
+ * and of a typical runCatching chain compared with plain try/catch and Optional.
+ * <p>
+ * Run with {@code ./gradlew jmh}, GC profiler is enabled in build.gradle
+ * so allocation rate (gc.alloc.rate.norm) is reported for every benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    int value = 42;
+    Result<Integer> success = Success.of(value);
+    Result<Integer> failure = Failure.of(new IOException("failure"));
+
+    @Benchmark
+    public Result<Integer> successMap() {
+        return success.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> failureMap() {
+        return failure.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> successFlatMap() {
+        return success.flatMap(i -> Success.of(i + 1));
+    }
+
+    @Benchmark
+    public Result<Integer> failureFlatMap() {
+        return failure.flatMap(i -> Success.of(i + 1));
+    }
+
+    @Benchmark
+    public Result<Integer> successMapCatching() {
+        return success.mapCatching(i -> i + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> failureMapCatching() {
+        return failure.mapCatching(i -> i + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> successFilterPass() {
+        return success.filter(i -> i > 0);
+    }
+
+    @Benchmark
+    public Result<Integer> successFilterReject() {
+        return success.filter(i -> i < 0);
+    }
+
+    @Benchmark
+    public Result<Integer> failureFilter() {
+        return failure.filter(i -> i > 0);
+    }
+
+    @Benchmark
+    public Result<Integer> successOnSuccessCatching() {
+        return success.onSuccessCatching(i -> {});
+    }
+
+    @Benchmark
+    public Result<Integer> failureOnSuccessCatching() {
+        return failure.onSuccessCatching(i -> {});
+    }
+
+    @Benchmark
+    public Result<Integer> successRecover() {
+        return success.recover(e -> -1);
+    }
+
+    @Benchmark
+    public Result<Integer> failureRecover() {
+        return failure.recover(e -> -1);
+    }
+
+    @Benchmark
+    public Integer successGetOrElse() {
+        return success.getOrElse(e -> -1);
+    }
+
+    @Benchmark
+    public Integer failureGetOrElse() {
+        return failure.getOrElse(e -> -1);
+    }
+
+    //Typical request chain: runCatching -> mapCatching -> filter -> recover
+
+    @Benchmark
+    public Integer chainResult() {
+        return Result.runCatching(() -> value)
+                .mapCatching(i -> i * 2)
+                .filter(i -> i > 0)
+                .recover(e -> -1)
+                .getOrNull();
+    }
+
+    @Benchmark
+    public Integer chainTryCatch() {
+        try {
+            int i = value * 2;
+            return i > 0 ? i : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Integer chainOptional() {
+        return Optional.of(value)
+                .map(i -> i * 2)
+                .filter(i -> i > 0)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public Integer failingChainResult() {
+        return Result.runCatching(this::fail)
+                .mapCatching(i -> i * 2)
+                .filter(i -> i > 0)
+                .recover(e -> -1)
+                .getOrNull();
+    }
+
+    @Benchmark
+    public Integer failingChainTryCatch() {
+        try {
+            int i = fail() * 2;
+            return i > 0 ? i : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    int fail() throws IOException {
+        throw new IOException("fail");
+    }
+}
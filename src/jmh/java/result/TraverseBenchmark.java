@@ -0,0 +1,47 @@
+package result;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential versus parallel traverse of 100k elements with CPU bound mapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraverseBenchmark {
+
+    List<Integer> items = IntStream.range(0, 100_000).boxed().toList();
+
+    @Benchmark
+    public Result<List<Long>> sequential() {
+        return Results.traverse(items, TraverseBenchmark::work);
+    }
+
+    @Benchmark
+    public Result<List<Long>> parallel() {
+        return Results.traverseParallel(items, TraverseBenchmark::work);
+    }
+
+    static long work(int seed) {
+        long x = seed;
+        for (int i = 0; i < 200; i++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return x;
+    }
+}
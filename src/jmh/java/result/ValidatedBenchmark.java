@@ -0,0 +1,71 @@
+package result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rejecting invalid input with three rules: throwing rules in runCatching versus Validated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatedBenchmark {
+
+    record User(String name, String email, int age) {}
+
+    String name = "";
+    String email = "joe";
+    int age = -1;
+
+    static String checkName(String s) {
+        if (s.isBlank()) {
+            throw new IllegalArgumentException("name is blank");
+        }
+        return s;
+    }
+
+    static String checkEmail(String s) {
+        if (!s.contains("@")) {
+            throw new IllegalArgumentException("email has no @");
+        }
+        return s;
+    }
+
+    static int checkAge(int a) {
+        if (a < 0) {
+            throw new IllegalArgumentException("age is negative");
+        }
+        return a;
+    }
+
+    @Benchmark
+    public Result<User> runCatching() {
+        return Result.runCatching(() -> new User(checkName(name), checkEmail(email), checkAge(age)));
+    }
+
+    @Benchmark
+    public Validated<String, User> validated() {
+        return Validated.map3(
+                Validated.of(name, n -> !n.isBlank(), "name is blank"),
+                Validated.of(email, e -> e.contains("@"), "email has no @"),
+                Validated.of(age, a -> a >= 0, "age is negative"),
+                User::new);
+    }
+
+    @Benchmark
+    public Result<User> validatedToResult() {
+        return validated().toResult();
+    }
+}
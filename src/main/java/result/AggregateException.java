@@ -0,0 +1,23 @@
+package result;
+
+import java.util.List;
+
+/**
+ * Exception which aggregates several failures as suppressed exceptions.
+ * <p>
+ * It is stackless, stacks of aggregated exceptions are available via {@link #getSuppressed()}.
+ */
+public class AggregateException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     * @param message message
+     * @param exceptions exceptions to aggregate
+     */
+    public AggregateException(String message, List<? extends Exception> exceptions) {
+        super(message, null, true, false);
+        exceptions.forEach(this::addSuppressed);
+    }
+}
@@ -0,0 +1,227 @@
+package result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous exception interceptor.
+ * <p>
+ * Puts exceptions into bounded lock-free ring buffer, which is drained in batches by background
+ * (virtual by default) thread, so slow interceptors like loggers do not stall threads producing failures.
+ * What to do when buffer is full is defined by {@link OverflowPolicy}.
+ * <p>
+ * Handler sees exception later, as it is at that time, for example {@link Failure#trim(int, int)} called
+ * in between is visible. Anything which must see the exception as thrown should be a synchronous interceptor.
+ * <p>
+ * Policies which should run synchronously, like NPE ban from README, are composed in front of it:
+ * <pre>{@code
+ *     var async = AsyncInterceptor.of(logException);
+ *     Failure.withInterceptor(banNPE.andThen(async));
+ * }</pre>
+ */
+public final class AsyncInterceptor implements Consumer<Exception>, AutoCloseable {
+
+    /**
+     * What to do with exception when ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drop exception. */
+        DROP,
+        /** When buffer is more than half full, accept only every sampleRate-th exception, drop the rest. */
+        SAMPLE,
+        /** Wait until there is space in the buffer. */
+        BLOCK
+    }
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicReferenceArray<Exception> ring;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder handlerErrors = new LongAdder();
+
+    private final int batchSize;
+    private final OverflowPolicy policy;
+    private final int sampleRate;
+    private final Consumer<? super List<Exception>> batchHandler;
+    private final Thread drainer;
+
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     * @param capacity ring buffer capacity, rounded up to power of two
+     * @param batchSize maximum number of exceptions delivered to handler at once
+     * @param policy overflow policy
+     * @param sampleRate sample rate for {@link OverflowPolicy#SAMPLE}
+     * @param threadFactory factory for draining thread
+     * @param batchHandler handler of exception batches, list is reused after handler returns
+     */
+    public AsyncInterceptor(int capacity, int batchSize, OverflowPolicy policy, int sampleRate,
+            ThreadFactory threadFactory, Consumer<? super List<Exception>> batchHandler) {
+        if (capacity < 2 || batchSize < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("Invalid capacity, batch size or sample rate");
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.ring = new AtomicReferenceArray<>(this.capacity);
+        this.batchSize = batchSize;
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+        this.batchHandler = batchHandler;
+        this.drainer = threadFactory.newThread(this::drainLoop);
+        this.drainer.start();
+    }
+
+    /**
+     * Creates interceptor with default settings: capacity 8192, batch 256, DROP policy, virtual draining thread.
+     * @param handler exception handler, invoked on draining thread
+     * @return async interceptor
+     */
+    public static AsyncInterceptor of(Consumer<Exception> handler) {
+        return new AsyncInterceptor(8192, 256, OverflowPolicy.DROP, 1,
+                Thread.ofVirtual().name("result-interceptor").factory(),
+                batch -> batch.forEach(handler));
+    }
+
+    /**
+     * Puts exception to the buffer, null is ignored, null slot means not yet published one.
+     */
+    @Override
+    public void accept(Exception e) {
+        if (e == null) {
+            return;
+        }
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        switch (policy) {
+        case DROP -> {
+            if (!offer(e)) {
+                dropped.increment();
+            }
+        }
+        case SAMPLE -> {
+            boolean accepted = size() < capacity / 2 || sampleCounter.getAndIncrement() % sampleRate == 0;
+            if (!accepted || !offer(e)) {
+                dropped.increment();
+            }
+        }
+        case BLOCK -> {
+            while (!offer(e)) {
+                if (closed) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        }
+    }
+
+    private boolean offer(Exception e) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        ring.lazySet((int) t & mask, e);
+        if (parked) {
+            LockSupport.unpark(drainer);
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        try {
+            drain();
+        } finally {
+            //producers must not wait for dead drainer
+            closed = true;
+        }
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Exception>(batchSize);
+        while (true) {
+            long h = head.get();
+            while (batch.size() < batchSize) {
+                int idx = (int) h & mask;
+                Exception e = ring.get(idx);
+                if (e == null) {
+                    break;
+                }
+                ring.lazySet(idx, null);
+                batch.add(e);
+                h++;
+            }
+            head.set(h);
+            if (!batch.isEmpty()) {
+                try {
+                    batchHandler.accept(batch);
+                } catch (Throwable ex) {
+                    //Errors too, dead drainer would stop delivery silently
+                    handlerErrors.increment();
+                }
+                batch.clear();
+            } else if (closed && tail.get() == h) {
+                return;
+            } else {
+                parked = true;
+                if (tail.get() == h) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    /**
+     * Number of exceptions waiting in the buffer.
+     * @return number of exceptions
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Number of dropped exceptions.
+     * @return number of dropped exceptions
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of batches on which handler has thrown an exception.
+     * @return number of handler errors
+     */
+    public long handlerErrors() {
+        return handlerErrors.sum();
+    }
+
+    /**
+     * Stops accepting exceptions, waits until remaining exceptions are delivered.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        LockSupport.unpark(drainer);
+        drainer.join();
+    }
+}
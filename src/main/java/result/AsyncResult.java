@@ -0,0 +1,275 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Asynchronous Result.
+ * <p>
+ * Wraps {@code CompletableFuture<Result<T>>} which always completes normally with Success or Failure,
+ * so exceptions are never wrapped into CompletionException and Failure interceptor fires
+ * exactly once, when failure happens. Combinators are non-blocking and run when the result is ready,
+ * {@link #await()} converts back to plain {@code Result<T>}.
+ * <p>
+ * By default suppliers run on virtual thread per task executor, so blocking I/O in the suppliers is cheap.
+ *
+ * @param <T> result type
+ */
+public final class AsyncResult<T> {
+
+    private static class Holder {
+        static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    private static class SchedulerHolder {
+        static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "result-retry-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Default executor, virtual thread per task.
+     * @return executor
+     */
+    static ExecutorService defaultExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * Runs supplier asynchronously on virtual thread.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @return async result
+     */
+    public static <T> AsyncResult<T> runCatchingAsync(CheckedSupplier<T> supplier) {
+        return runCatchingAsync(supplier, defaultExecutor());
+    }
+
+    /**
+     * Runs supplier asynchronously on the given executor.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @param executor executor
+     * @return async result
+     */
+    public static <T> AsyncResult<T> runCatchingAsync(CheckedSupplier<T> supplier, Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.runCatching(supplier), executor));
+    }
+
+    /**
+     * Runs supplier asynchronously with retries according to policy.
+     * Attempts run on virtual threads, delays are timers of the shared scheduler thread, so no thread sleeps.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @param policy retry policy
+     * @return async result
+     */
+    public static <T> AsyncResult<T> retry(CheckedSupplier<T> supplier, RetryPolicy policy) {
+        return retry(supplier, policy, SchedulerHolder.SCHEDULER, defaultExecutor());
+    }
+
+    /**
+     * Runs supplier asynchronously with retries according to policy.
+     * Cancelling {@link #toCompletableFuture()} does not stop retries, await with timeout instead.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @param policy retry policy
+     * @param scheduler scheduler for delays between attempts
+     * @param executor executor for attempts
+     * @return async result
+     */
+    public static <T> AsyncResult<T> retry(CheckedSupplier<T> supplier, RetryPolicy policy,
+            ScheduledExecutorService scheduler, Executor executor) {
+        var promise = new CompletableFuture<Result<T>>();
+        attempt(supplier, policy, scheduler, executor, promise, 1, new Exception[policy.maxAttempts() - 1]);
+        return new AsyncResult<>(promise);
+    }
+
+    private static <T> void attempt(CheckedSupplier<T> supplier, RetryPolicy policy, ScheduledExecutorService scheduler,
+            Executor executor, CompletableFuture<Result<T>> promise, int attempt, Exception[] errors) {
+        try {
+            executor.execute(() -> {
+                Exception failed;
+                try {
+                    promise.complete(new Success<>(supplier.get()));
+                    return;
+                } catch (Exception e) {
+                    failed = e;
+                } catch (Error err) {
+                    promise.completeExceptionally(err);
+                    throw err;
+                }
+                try {
+                    if (!policy.shouldRetry(failed, attempt)) {
+                        promise.complete(RetryPolicy.failure(failed, errors));
+                        return;
+                    }
+                    errors[attempt - 1] = failed;
+                    scheduler.schedule(() -> attempt(supplier, policy, scheduler, executor, promise, attempt + 1, errors),
+                            policy.delayNanos(attempt), TimeUnit.NANOSECONDS);
+                } catch (RuntimeException e) {
+                    //retry predicate failed or scheduler rejected the next attempt
+                    failed.addSuppressed(e);
+                    promise.complete(RetryPolicy.failure(failed, errors));
+                } catch (Error err) {
+                    promise.completeExceptionally(err);
+                    throw err;
+                }
+            });
+        } catch (RuntimeException e) {
+            //executor rejected the attempt, the last attempt failure stays primary like in RetryPolicy.run
+            if (attempt == 1) {
+                promise.complete(RetryPolicy.failure(e, errors));
+            } else {
+                var last = errors[attempt - 2];
+                last.addSuppressed(e);
+                promise.complete(RetryPolicy.failure(last, errors));
+            }
+        }
+    }
+
+    /**
+     * Wraps already available result.
+     * @param <T> result type
+     * @param result result
+     * @return completed async result
+     */
+    public static <T> AsyncResult<T> of(Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Adapts completion stage, exceptional completion becomes Failure with unwrapped cause.
+     * @param <T> result type
+     * @param stage completion stage
+     * @return async result
+     */
+    public static <T> AsyncResult<T> from(CompletionStage<T> stage) {
+        return new AsyncResult<>(stage.<Result<T>>handle((v, t) -> t == null ? Success.of(v) : failure(t)).toCompletableFuture());
+    }
+
+    public <R> AsyncResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new AsyncResult<>(future.thenApply(r -> r.map(mapper)));
+    }
+
+    public <R> AsyncResult<R> mapCatching(CheckedFunction<? super T, ? extends R> mapper) {
+        return new AsyncResult<>(future.thenApply(r -> r.mapCatching(mapper)));
+    }
+
+    /**
+     * Same as {@link #mapCatching(CheckedFunction)} but runs mapper on the given executor,
+     * use it for blocking mappers.
+     * @param <R> new result type
+     * @param mapper mapper
+     * @param executor executor
+     * @return async result
+     */
+    public <R> AsyncResult<R> mapCatchingAsync(CheckedFunction<? super T, ? extends R> mapper, Executor executor) {
+        return new AsyncResult<>(future.thenApplyAsync(r -> r.mapCatching(mapper), executor));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> AsyncResult<R> flatMap(Function<? super T, AsyncResult<R>> mapper) {
+        return new AsyncResult<>(future.thenCompose(r -> r instanceof Success<T> s
+                ? mapper.apply(s.value()).future
+                : CompletableFuture.completedFuture((Result<R>) r)));
+    }
+
+    public AsyncResult<T> filter(Predicate<? super T> predicate) {
+        return new AsyncResult<>(future.thenApply(r -> r.filter(predicate)));
+    }
+
+    public <R> AsyncResult<R> recover(Function<? super Exception, ? extends R> func) {
+        return new AsyncResult<>(future.thenApply(r -> r.recover(func)));
+    }
+
+    public <R> AsyncResult<R> recoverCatching(CheckedFunction<? super Exception, ? extends R> func) {
+        return new AsyncResult<>(future.thenApply(r -> r.recoverCatching(func)));
+    }
+
+    public AsyncResult<T> onSuccess(Consumer<T> consumer) {
+        return new AsyncResult<>(future.thenApply(r -> r.onSuccess(consumer)));
+    }
+
+    public AsyncResult<T> onFailure(Consumer<Exception> errHandler) {
+        return new AsyncResult<>(future.thenApply(r -> r.onFailure(errHandler)));
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the result. Exception thrown by non-catching step or cancellation becomes Failure.
+     * @return result
+     */
+    public Result<T> await() {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Waits at most timeout for the result.
+     * @param timeout timeout
+     * @return result or Failure with TimeoutException
+     */
+    public Result<T> await(Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | CancellationException | TimeoutException e) {
+            return failure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure(e);
+        }
+    }
+
+    /**
+     * Converts to CompletableFuture, it completes exceptionally only if non-catching step throws.
+     * @return future
+     */
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Unwraps CompletionException/ExecutionException and produces Failure.
+     * Errors are rethrown, Result does not catch them.
+     */
+    static <T> Result<T> failure(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return Failure.of(t instanceof Exception e ? e : new Exception(t));
+    }
+}
@@ -0,0 +1,48 @@
+package result;
+
+import java.time.Duration;
+
+/**
+ * Cache policy for {@link Results#memoize(Result.CheckedFunction, CachePolicy)}.
+ * <pre>{@code
+ *     var policy = CachePolicy.of(10_000)
+ *         .withSuccessTtl(Duration.ofMinutes(5))
+ *         .withFailureTtl(Duration.ofSeconds(10));
+ * }</pre>
+ *
+ * @param maxSize maximum number of entries
+ * @param successTtl time to live of Success entries
+ * @param failureTtl time to live of Failure entries, zero disables negative caching
+ */
+public record CachePolicy(int maxSize, Duration successTtl, Duration failureTtl) {
+
+    /** Time to live of entries which never expire */
+    public static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
+    public CachePolicy {
+        if (maxSize < 1 || successTtl.isNegative() || failureTtl.isNegative()) {
+            throw new IllegalArgumentException("Invalid cache policy");
+        }
+    }
+
+    /**
+     * Policy caching successes forever and not caching failures.
+     * @param maxSize maximum number of entries
+     * @return policy
+     */
+    public static CachePolicy of(int maxSize) {
+        return new CachePolicy(maxSize, FOREVER, Duration.ZERO);
+    }
+
+    public CachePolicy withSuccessTtl(Duration successTtl) {
+        return new CachePolicy(maxSize, successTtl, failureTtl);
+    }
+
+    public CachePolicy withFailureTtl(Duration failureTtl) {
+        return new CachePolicy(maxSize, successTtl, failureTtl);
+    }
+
+    static long nanos(Duration ttl) {
+        return ttl.compareTo(FOREVER) >= 0 ? Long.MAX_VALUE : ttl.toNanos();
+    }
+}
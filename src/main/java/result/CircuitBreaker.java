@@ -0,0 +1,220 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Lock-free circuit breaker.
+ * <p>
+ * Counts outcomes in sliding time window of {@value #BUCKETS} buckets. When window has at least
+ * {@code minimumCalls} calls and failure rate reaches threshold, breaker opens and calls immediately
+ * return Failure with {@link CircuitBreakerOpenException} without invoking the supplier.
+ * After {@code openDuration} single trial call is let through (half-open), its success closes
+ * the breaker, its failure opens it again.
+ * <p>
+ * Closed path costs one volatile read, {@link System#nanoTime()} and striped {@link LongAdder} increment,
+ * failure rate is evaluated on failures only.
+ * <pre>{@code
+ *     var breaker = new CircuitBreaker(0.5, 20, Duration.ofSeconds(10), Duration.ofSeconds(30));
+ *     Result<String> r = breaker.runCatching(() -> client.get(url));
+ * }</pre>
+ */
+public final class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    static final int BUCKETS = 10;
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+    private static final int REJECTED = -1;
+
+    private record Bucket(long epoch, LongAdder successes, LongAdder failures) {
+        Bucket(long epoch) {
+            this(epoch, new LongAdder(), new LongAdder());
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private final CircuitBreakerOpenException openException = new CircuitBreakerOpenException("Circuit breaker is open");
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private volatile long openUntil;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    /**
+     * Constructor.
+     * @param failureRateThreshold failure rate in (0, 1] which opens the breaker
+     * @param minimumCalls minimum number of calls in the window to evaluate failure rate
+     * @param window sliding window length
+     * @param openDuration time in open state before trial call
+     */
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window, Duration openDuration) {
+        this(failureRateThreshold, minimumCalls, window, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window, Duration openDuration, LongSupplier clock) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || minimumCalls < 1
+                || window.toNanos() < BUCKETS || openDuration.isNegative()) {
+            throw new IllegalArgumentException("Invalid circuit breaker configuration");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = window.toNanos() / BUCKETS;
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+        clear(epoch(clock.getAsLong()));
+    }
+
+    /**
+     * Runs supplier unless breaker is open.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @return result of supplier or Failure with {@link CircuitBreakerOpenException}
+     */
+    public <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
+        int permit = acquire();
+        if (permit == REJECTED) {
+            return new Failure<>(openException);
+        }
+        boolean success = false;
+        try {
+            T value = supplier.get();
+            success = true;
+            return new Success<>(value);
+        } catch (Exception e) {
+            return new Failure<>(e);
+        } finally {
+            record(permit, success);
+        }
+    }
+
+    /**
+     * Converts partial function to total function guarded by this breaker.
+     * @param <T> function parameter type
+     * @param <R> function result type
+     * @param partialFunc function that may throw an exception
+     * @return total function
+     */
+    public <T, R> Function<T, Result<R>> lift(CheckedFunction<T, R> partialFunc) {
+        return t -> runCatching(() -> partialFunc.apply(t));
+    }
+
+    public State state() {
+        return State.values()[state.get()];
+    }
+
+    /**
+     * Failure rate in the current window.
+     * @return failure rate or 0 if there are no calls
+     */
+    public double failureRate() {
+        long[] counts = counts(epoch(clock.getAsLong()));
+        long total = counts[0] + counts[1];
+        return total == 0 ? 0 : (double) counts[1] / total;
+    }
+
+    /**
+     * Closes the breaker and clears the window.
+     */
+    public void reset() {
+        clear(epoch(clock.getAsLong()));
+        state.set(CLOSED);
+    }
+
+    private int acquire() {
+        int s = state.get();
+        if (s == CLOSED) {
+            return CLOSED;
+        }
+        if (s == OPEN && clock.getAsLong() - openUntil >= 0 && state.compareAndSet(OPEN, HALF_OPEN)) {
+            return HALF_OPEN;
+        }
+        return REJECTED;
+    }
+
+    private void record(int permit, boolean success) {
+        long now = clock.getAsLong();
+        if (permit == HALF_OPEN) {
+            if (success) {
+                clear(epoch(now));
+                state.set(CLOSED);
+            } else {
+                open(now, HALF_OPEN);
+            }
+            return;
+        }
+        long epoch = epoch(now);
+        Bucket bucket = bucket(epoch);
+        if (success) {
+            bucket.successes.increment();
+            return;
+        }
+        bucket.failures.increment();
+        long[] counts = counts(epoch);
+        long total = counts[0] + counts[1];
+        if (total >= minimumCalls && counts[1] >= failureRateThreshold * total) {
+            open(now, CLOSED);
+        }
+    }
+
+    private void open(long now, int from) {
+        if (state.get() == from) {
+            openUntil = now + openNanos;
+            state.compareAndSet(from, OPEN);
+        }
+    }
+
+    private long epoch(long now) {
+        return Math.floorDiv(now, bucketNanos);
+    }
+
+    /**
+     * Bucket of the epoch, stale bucket is replaced, late increments to replaced bucket are lost.
+     */
+    private Bucket bucket(long epoch) {
+        int i = (int) Math.floorMod(epoch, (long) BUCKETS);
+        Bucket b = buckets.get(i);
+        while (b.epoch != epoch) {
+            if (b.epoch > epoch) {
+                //slow thread, account in newer bucket
+                return b;
+            }
+            var fresh = new Bucket(epoch);
+            var witness = buckets.compareAndExchange(i, b, fresh);
+            b = witness == b ? fresh : witness;
+        }
+        return b;
+    }
+
+    private long[] counts(long epoch) {
+        long successes = 0;
+        long failures = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            Bucket b = buckets.get(i);
+            if (epoch - b.epoch < BUCKETS) {
+                successes += b.successes.sum();
+                failures += b.failures.sum();
+            }
+        }
+        return new long[] {successes, failures};
+    }
+
+    private void clear(long epoch) {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, new Bucket(epoch - BUCKETS));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package result;
+
+/**
+ * Failure cause of calls rejected by open {@link CircuitBreaker}.
+ * <p>
+ * Stackless and without suppressed exceptions, so one instance per breaker is shared by all rejections.
+ */
+public class CircuitBreakerOpenException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,144 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Adaptive concurrency limiter (bulkhead).
+ * <p>
+ * Admits call if number of calls in flight is below the limit, otherwise immediately returns Failure
+ * with {@link LimitExceededException}. Admission is CAS on in-flight counter, callers never block,
+ * so limiter works the same on platform and virtual threads.
+ * <p>
+ * Limit adapts with AIMD: call slower than latency threshold multiplies the limit by backoff ratio,
+ * call in time increases the limit by one if at least half of the limit is used. Only slow calls started
+ * after the last decrease decrease the limit, so calls in flight during one latency spike decrease it once.
+ * <pre>{@code
+ *     var limiter = ConcurrencyLimiter.of(200, Duration.ofMillis(100));
+ *     Result<Response> r = limiter.runCatching(() -> client.send(request));
+ * }</pre>
+ */
+public final class ConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThreshold;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+    private final LimitExceededException limitExceeded = new LimitExceededException("Concurrency limit exceeded");
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastDecrease;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructor.
+     * @param initialLimit initial limit
+     * @param minLimit minimum limit
+     * @param maxLimit maximum limit
+     * @param latencyThreshold latency which decreases the limit
+     * @param backoffRatio limit multiplier in (0, 1) on slow call
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio,
+            LongSupplier clock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid limiter configuration");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThreshold = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limit = new AtomicInteger(initialLimit);
+        this.lastDecrease = new AtomicLong(clock.getAsLong() - 1);
+    }
+
+    /**
+     * Limiter starting at 20 or max limit, with minimum limit 1 and backoff ratio 0.9.
+     * @param maxLimit maximum limit
+     * @param latencyThreshold latency which decreases the limit
+     * @return limiter
+     */
+    public static ConcurrencyLimiter of(int maxLimit, Duration latencyThreshold) {
+        return new ConcurrencyLimiter(Math.min(20, maxLimit), 1, maxLimit, latencyThreshold, 0.9);
+    }
+
+    /**
+     * Runs supplier if limit allows.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @return result of supplier or Failure with {@link LimitExceededException}
+     */
+    public <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
+        if (!tryAcquire()) {
+            rejected.increment();
+            return new Failure<>(limitExceeded);
+        }
+        long start = clock.getAsLong();
+        try {
+            return new Success<>(supplier.get());
+        } catch (Exception e) {
+            return new Failure<>(e);
+        } finally {
+            release(start, clock.getAsLong());
+        }
+    }
+
+    /**
+     * Converts partial function to total function guarded by this limiter.
+     * @param <T> function parameter type
+     * @param <R> function result type
+     * @param partialFunc function that may throw an exception
+     * @return total function
+     */
+    public <T, R> Function<T, Result<R>> lift(CheckedFunction<T, R> partialFunc) {
+        return t -> runCatching(() -> partialFunc.apply(t));
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private boolean tryAcquire() {
+        int n;
+        do {
+            n = inFlight.get();
+            if (n >= limit.get()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(n, n + 1));
+        return true;
+    }
+
+    private void release(long start, long end) {
+        int current = inFlight.getAndDecrement();
+        if (end - start > latencyThreshold) {
+            long last = lastDecrease.get();
+            if (start - last >= 0 && lastDecrease.compareAndSet(last, end)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            }
+        } else if (current * 2 >= limit.get()) {
+            limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+        }
+    }
+}
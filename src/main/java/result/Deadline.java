@@ -0,0 +1,99 @@
+package result;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Deadline shared by a chain of steps.
+ * <p>
+ * Every step runs on virtual thread while the caller waits for the remaining time,
+ * when deadline expires the step is interrupted and Failure with {@link TimeoutException} is returned,
+ * next steps fail immediately. So the deadline bounds latency of the whole chain, not of every step.
+ * <pre>{@code
+ *     var deadline = Deadline.after(Duration.ofMillis(200));
+ *     Result<Order> order = deadline.runCatching(() -> findUser(id))
+ *         .flatMap(deadline.lift(user -> loadCart(user)))
+ *         .flatMap(deadline.lift(cart -> placeOrder(cart)));
+ * }</pre>
+ */
+public final class Deadline {
+
+    private final long deadline;
+
+    private Deadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Deadline after timeout from now.
+     * @param timeout timeout
+     * @return deadline
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    private long remainingNanos() {
+        return deadline - System.nanoTime();
+    }
+
+    /**
+     * Runs supplier on virtual thread, waits at most remaining time.
+     * @param <T> result type
+     * @param supplier supplier that may throw an exception
+     * @return result of supplier or Failure with TimeoutException, supplier is interrupted on timeout
+     */
+    public <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
+        if (isExpired()) {
+            return new Failure<>(new TimeoutException("Deadline exceeded"));
+        }
+        //supplier exceptions are wrapped here, so interrupted late step does not produce extra Failure
+        Future<T> future = AsyncResult.defaultExecutor().submit(supplier::get);
+        try {
+            return new Success<>(future.get(remainingNanos(), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                return new Failure<>(cause);
+            }
+            throw (Error) e.getCause();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return new Failure<>(new TimeoutException("Deadline exceeded"));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Converts partial function to total function bounded by this deadline, use it with {@link Result#flatMap(Function)}.
+     * @param <T> function parameter type
+     * @param <R> function result type
+     * @param partialFunc function that may throw an exception
+     * @return total function
+     */
+    public <T, R> Function<T, Result<R>> lift(CheckedFunction<T, R> partialFunc) {
+        return t -> runCatching(() -> partialFunc.apply(t));
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + remaining() + "]";
+    }
+}
@@ -0,0 +1,241 @@
+package result;
+
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Deduplicating exception interceptor.
+ * <p>
+ * Fingerprints exception by its class and top frames of the interception site, that is the stack
+ * where Failure is created, outside of this library and JDK. Library frames are recognized by package and code source,
+ * so they are skipped when the library is shaded into application jar too. Frames are walked lazily with {@link StackWalker}
+ * up to the frames limit, exception stack trace is never materialized, so fingerprint costs the same for
+ * deep and stackless exceptions. The walk is still comparable to capturing a short stack, see DedupBenchmark,
+ * fingerprint of exception class only (0 frames) costs nothing. Interceptor should run synchronously, in front of asynchronous interceptors,
+ * otherwise the site is the draining thread. The first occurrence of a fingerprint
+ * is passed to {@code firstOccurrence} handler, e.g. logger, the following ones are only counted.
+ * When time window ends, the next failure (or {@link #flush()}) delivers {@link Report} with counts per fingerprint.
+ * <p>
+ * Fingerprints live in bounded open addressing table updated with CAS, counters are {@link LongAdder}s,
+ * so the same exception thrown by many threads does not contend. Every report rebuilds the table with
+ * fingerprints which had failures during the window, so the table keeps only active ones; if the table is full,
+ * failures are counted as untracked. Counts are approximate when window rolls concurrently.
+ * <pre>{@code
+ *     var dedup = DedupInterceptor.of(logException, report -> log.warn(report.toString()));
+ *     Failure.withInterceptor(banNPE.andThen(dedup));
+ * }</pre>
+ */
+public final class DedupInterceptor implements Consumer<Exception>, AutoCloseable {
+
+    /**
+     * Failures of one fingerprint in a window.
+     * @param first the first exception with this fingerprint
+     * @param count number of failures in the window
+     */
+    public record Entry(Exception first, long count) {}
+
+    /**
+     * Window report.
+     * @param window window length
+     * @param entries fingerprints with failures, the most frequent first
+     * @param untracked number of failures which did not fit into the table
+     */
+    public record Report(Duration window, List<Entry> entries, long untracked) {
+        public long total() {
+            return untracked + entries.stream().mapToLong(Entry::count).sum();
+        }
+    }
+
+    private record Slot(long fingerprint, Exception first, LongAdder count) {}
+
+    private static final int MAX_PROBES = 16;
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final String LIBRARY_PACKAGE = DedupInterceptor.class.getPackageName();
+    private static final CodeSource LIBRARY = DedupInterceptor.class.getProtectionDomain().getCodeSource();
+
+    /**
+     * Classes of application code, not of this library or JDK. Package alone does not identify
+     * the library, shaded library shares code source with application, tests share package with it.
+     */
+    private static final ClassValue<Boolean> applicationClass = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            var source = type.getProtectionDomain().getCodeSource();
+            return source != null && !(type.getPackageName().equals(LIBRARY_PACKAGE) && source.equals(LIBRARY));
+        }
+    };
+
+    private final int frames;
+    private final int mask;
+    private final long windowNanos;
+    private final Consumer<? super Exception> firstOccurrence;
+    private final Consumer<? super Report> reporter;
+    private final LongSupplier clock;
+
+    private volatile AtomicReferenceArray<Slot> table;
+    private final LongAdder untracked = new LongAdder();
+    private final AtomicLong windowStart;
+
+    /**
+     * Constructor.
+     * @param frames number of top interception site frames in fingerprint, 0 for exception class only
+     * @param capacity maximum number of fingerprints, rounded up to power of two
+     * @param window report window
+     * @param firstOccurrence handler of the first exception of every fingerprint
+     * @param reporter handler of window reports, invoked on failing or flushing thread
+     */
+    public DedupInterceptor(int frames, int capacity, Duration window, Consumer<? super Exception> firstOccurrence,
+            Consumer<? super Report> reporter) {
+        this(frames, capacity, window, firstOccurrence, reporter, System::nanoTime);
+    }
+
+    DedupInterceptor(int frames, int capacity, Duration window, Consumer<? super Exception> firstOccurrence,
+            Consumer<? super Report> reporter, LongSupplier clock) {
+        if (frames < 0 || capacity < 2 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Invalid frames, capacity or window");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.frames = frames;
+        this.mask = size - 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.windowNanos = window.toNanos();
+        this.firstOccurrence = firstOccurrence;
+        this.reporter = reporter;
+        this.clock = clock;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Interceptor with 5 frames fingerprints, 1024 fingerprints and 1 minute window.
+     * @param firstOccurrence handler of the first exception of every fingerprint
+     * @param reporter handler of window reports
+     * @return interceptor
+     */
+    public static DedupInterceptor of(Consumer<? super Exception> firstOccurrence, Consumer<? super Report> reporter) {
+        return new DedupInterceptor(5, 1024, Duration.ofMinutes(1), firstOccurrence, reporter);
+    }
+
+    @Override
+    public void accept(Exception e) {
+        if (e != null) {
+            record(e);
+        }
+        long start = windowStart.get();
+        long now = clock.getAsLong();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            report();
+        }
+    }
+
+    private void record(Exception e) {
+        long fingerprint = fingerprint(e);
+        var table = this.table;
+        int i = (int) fingerprint & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++, i = (i + 1) & mask) {
+            Slot slot = table.get(i);
+            if (slot == null) {
+                var fresh = new Slot(fingerprint, e, new LongAdder());
+                fresh.count().increment();
+                if (table.compareAndSet(i, null, fresh)) {
+                    firstOccurrence.accept(e);
+                    return;
+                }
+                slot = table.get(i);
+            }
+            if (slot != null && slot.fingerprint() == fingerprint) {
+                slot.count().increment();
+                return;
+            }
+        }
+        untracked.increment();
+    }
+
+    /**
+     * Fingerprint of exception class and top frames of application code on the current stack, never 0.
+     */
+    long fingerprint(Exception e) {
+        long h = e.getClass().getName().hashCode();
+        if (frames > 0) {
+            long seed = h;
+            h = WALKER.walk(stack -> {
+                long x = seed;
+                int n = 0;
+                for (var it = stack.iterator(); n < frames && it.hasNext();) {
+                    var f = it.next();
+                    if (applicationClass.get(f.getDeclaringClass())) {
+                        x = 31 * x + f.getDeclaringClass().hashCode();
+                        x = 31 * x + f.getByteCodeIndex();
+                        n++;
+                    }
+                }
+                return x;
+            });
+        }
+        h *= 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * Reports the current window and starts a new one.
+     */
+    public void flush() {
+        windowStart.set(clock.getAsLong());
+        report();
+    }
+
+    /**
+     * Flushes the last window.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Reports the window and replaces the table with active fingerprints. Removing slots in place would
+     * break probe chains of the following fingerprints, so they would be reported as first occurrences again.
+     */
+    private void report() {
+        var entries = new ArrayList<Entry>();
+        var old = table;
+        var fresh = new AtomicReferenceArray<Slot>(old.length());
+        for (int i = 0; i < old.length(); i++) {
+            Slot slot = old.get(i);
+            if (slot == null) {
+                continue;
+            }
+            long count = slot.count().sumThenReset();
+            if (count > 0) {
+                entries.add(new Entry(slot.first(), count));
+                //the same slot keeps counting failures recorded concurrently
+                reinsert(fresh, slot);
+            }
+        }
+        table = fresh;
+        long lost = untracked.sumThenReset();
+        if (entries.isEmpty() && lost == 0) {
+            return;
+        }
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        reporter.accept(new Report(Duration.ofNanos(windowNanos), Collections.unmodifiableList(entries), lost));
+    }
+
+    private void reinsert(AtomicReferenceArray<Slot> fresh, Slot slot) {
+        int i = (int) slot.fingerprint() & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++, i = (i + 1) & mask) {
+            if (fresh.get(i) == null) {
+                fresh.set(i, slot);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package result;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Result specialized for primitive {@code double} values, avoids boxing in tight numeric loops.
+ * <p>
+ * Failed primitive result holds {@link Failure}, so interceptor fires once per failure
+ * and the same Failure is returned by {@link #toResult()}.
+ * Use {@link #toResult()} and {@link #from(Result)} to convert at the edges.
+ */
+public final class DoubleResult {
+
+    /** Double supplier that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedDoubleSupplier {double getAsDouble() throws Exception;}
+
+    /** Double unary operator that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedDoubleUnaryOperator {double applyAsDouble(double operand) throws Exception;}
+
+    private final double value;
+    private final Failure<Double> failure;
+
+    private DoubleResult(double value, Failure<Double> failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Factory method to produce successful result.
+     * @param value value
+     * @return successful result
+     */
+    public static DoubleResult of(double value) {
+        return new DoubleResult(value, null);
+    }
+
+    /**
+     * Factory method to produce failed result.
+     * @param e exception
+     * @return failed result
+     */
+    public static DoubleResult failure(Exception e) {
+        return new DoubleResult(0d, new Failure<>(e));
+    }
+
+    /**
+     * Factory method to produce result from supplier that may throw an exception.
+     * @param supplier supplier
+     * @return result
+     */
+    public static DoubleResult runCatching(CheckedDoubleSupplier supplier) {
+        try {
+            return of(supplier.getAsDouble());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Converts boxed result to primitive one, null value becomes failure with {@link NoSuchElementException}.
+     * @param result boxed result
+     * @return primitive result
+     */
+    @SuppressWarnings("unchecked")
+    public static DoubleResult from(Result<? extends Double> result) {
+        if (result instanceof Success<? extends Double> s) {
+            return s.value() == null ? failure(Result.NO_SUCH_ELEMENT) : of(s.value());
+        }
+        return new DoubleResult(0d, (Failure<Double>) result);
+    }
+
+    /**
+     * Converts this result to boxed {@code Result<Double>}.
+     * @return boxed result
+     */
+    public Result<Double> toResult() {
+        return failure == null ? Success.of(value) : failure;
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    public DoubleResult map(DoubleUnaryOperator mapper) {
+        return failure == null ? of(mapper.applyAsDouble(value)) : this;
+    }
+
+    public DoubleResult mapCatching(CheckedDoubleUnaryOperator mapper) {
+        if (failure != null) {
+            return this;
+        }
+        try {
+            return of(mapper.applyAsDouble(value));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return failure == null ? Success.of(mapper.apply(value)) : (Result<R>) (Result<?>) failure;
+    }
+
+    public DoubleResult flatMap(DoubleFunction<DoubleResult> mapper) {
+        return failure == null ? mapper.apply(value) : this;
+    }
+
+    public DoubleResult filter(DoublePredicate predicate) {
+        return failure != null || predicate.test(value) ? this : failure(Result.NO_SUCH_ELEMENT);
+    }
+
+    public DoubleResult onSuccess(DoubleConsumer consumer) {
+        if (failure == null) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    public DoubleResult onFailure(Consumer<Exception> errHandler) {
+        if (failure != null) {
+            errHandler.accept(failure.exception());
+        }
+        return this;
+    }
+
+    public DoubleResult recover(ToDoubleFunction<? super Exception> func) {
+        return failure == null ? this : of(func.applyAsDouble(failure.exception()));
+    }
+
+    public double getOrElse(double defaultValue) {
+        return failure == null ? value : defaultValue;
+    }
+
+    public double getOrElse(ToDoubleFunction<? super Exception> func) {
+        return failure == null ? value : func.applyAsDouble(failure.exception());
+    }
+
+    public double getOrThrow() throws Exception {
+        if (failure != null) {
+            throw failure.exception();
+        }
+        return value;
+    }
+
+    public Exception exceptionOrNull() {
+        return failure == null ? null : failure.exception();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof DoubleResult other
+                && Double.compare(value, other.value) == 0
+                && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return failure == null ? Double.hashCode(value) : failure.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "DoubleResult[value=" + value + "]" : "DoubleResult[exception=" + failure.exception() + "]";
+    }
+}
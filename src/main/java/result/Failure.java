@@ -17,13 +17,17 @@ public record Failure<T>(Exception exception) implements Result<T> {
     private static AtomicReference<Consumer<Exception>> interceptorRef = new AtomicReference<>();
     
     /**
-     * Customizing constructor. Invokes exception intercepter if it is set.
+     * Customizing constructor. Invokes exception intercepter if it is set,
+     * emits JFR event if it is enabled. Exception is not changed.
      */
     public Failure {
         Consumer<Exception> interc = interceptorRef.get();
         if (interc != null) {
             interc.accept(exception);
         }
+        if (ResultEvents.failureEnabled) {
+            ResultEvents.onFailure(exception);
+        }
     }
     /**
      * Factory method to produce Failure result.
@@ -40,10 +44,24 @@ public record Failure<T>(Exception exception) implements Result<T> {
      * @param interceptor exception interceptor
      * @return previous old interceptor
      */
-    static Consumer<Exception> withInterceptor(Consumer<Exception> interceptor) {
+    public static Consumer<Exception> withInterceptor(Consumer<Exception> interceptor) {
         return interceptorRef.getAndSet(interceptor);
     }
     
+    /**
+     * Trims stack traces of this failure's exception, its causes and suppressed exceptions in place.
+     * Useful for failures which are kept for a long time, for example in caches.
+     * Trimming does not make failure cheaper, stack is captured when exception is constructed,
+     * see {@link StacklessException} for that. Do not trim exceptions shared with other code.
+     * @param maxFrames maximum number of frames to keep
+     * @param maxCauses number of causes keeping frames, deeper causes become stackless
+     * @return this failure
+     */
+    public Failure<T> trim(int maxFrames, int maxCauses) {
+        StackTracePolicy.trim(exception, maxFrames, maxCauses);
+        return this;
+    }
+    
     @Override
     public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Exception, ? extends R> onError) {
         return onError.apply(exception);
@@ -0,0 +1,26 @@
+package result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when Failure is created.
+ */
+@Name("result.Failure")
+@Label("Failure")
+@Category("Result")
+@Description("Failure result is created")
+class FailureEvent extends jdk.jfr.Event {
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    @Label("Call Site")
+    @Description("The first frame outside of the library")
+    String callSite;
+}
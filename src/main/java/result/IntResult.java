@@ -0,0 +1,178 @@
+package result;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Result specialized for primitive {@code int} values, avoids boxing in tight numeric loops.
+ * <p>
+ * Failed primitive result holds {@link Failure}, so interceptor fires once per failure
+ * and the same Failure is returned by {@link #toResult()}.
+ * Use {@link #toResult()} and {@link #from(Result)} to convert at the edges.
+ */
+public final class IntResult {
+
+    /** Int supplier that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedIntSupplier {int getAsInt() throws Exception;}
+
+    /** Int unary operator that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedIntUnaryOperator {int applyAsInt(int operand) throws Exception;}
+
+    private final int value;
+    private final Failure<Integer> failure;
+
+    private IntResult(int value, Failure<Integer> failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Factory method to produce successful result.
+     * @param value value
+     * @return successful result
+     */
+    public static IntResult of(int value) {
+        return new IntResult(value, null);
+    }
+
+    /**
+     * Factory method to produce failed result.
+     * @param e exception
+     * @return failed result
+     */
+    public static IntResult failure(Exception e) {
+        return new IntResult(0, new Failure<>(e));
+    }
+
+    /**
+     * Factory method to produce result from supplier that may throw an exception.
+     * @param supplier supplier
+     * @return result
+     */
+    public static IntResult runCatching(CheckedIntSupplier supplier) {
+        try {
+            return of(supplier.getAsInt());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Converts boxed result to primitive one, null value becomes failure with {@link NoSuchElementException}.
+     * @param result boxed result
+     * @return primitive result
+     */
+    @SuppressWarnings("unchecked")
+    public static IntResult from(Result<? extends Integer> result) {
+        if (result instanceof Success<? extends Integer> s) {
+            return s.value() == null ? failure(Result.NO_SUCH_ELEMENT) : of(s.value());
+        }
+        return new IntResult(0, (Failure<Integer>) result);
+    }
+
+    /**
+     * Converts this result to boxed {@code Result<Integer>}.
+     * @return boxed result
+     */
+    public Result<Integer> toResult() {
+        return failure == null ? Success.of(value) : failure;
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    public IntResult map(IntUnaryOperator mapper) {
+        return failure == null ? of(mapper.applyAsInt(value)) : this;
+    }
+
+    public IntResult mapCatching(CheckedIntUnaryOperator mapper) {
+        if (failure != null) {
+            return this;
+        }
+        try {
+            return of(mapper.applyAsInt(value));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> mapToObj(IntFunction<? extends R> mapper) {
+        return failure == null ? Success.of(mapper.apply(value)) : (Result<R>) (Result<?>) failure;
+    }
+
+    public IntResult flatMap(IntFunction<IntResult> mapper) {
+        return failure == null ? mapper.apply(value) : this;
+    }
+
+    public IntResult filter(IntPredicate predicate) {
+        return failure != null || predicate.test(value) ? this : failure(Result.NO_SUCH_ELEMENT);
+    }
+
+    public IntResult onSuccess(IntConsumer consumer) {
+        if (failure == null) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    public IntResult onFailure(Consumer<Exception> errHandler) {
+        if (failure != null) {
+            errHandler.accept(failure.exception());
+        }
+        return this;
+    }
+
+    public IntResult recover(ToIntFunction<? super Exception> func) {
+        return failure == null ? this : of(func.applyAsInt(failure.exception()));
+    }
+
+    public int getOrElse(int defaultValue) {
+        return failure == null ? value : defaultValue;
+    }
+
+    public int getOrElse(ToIntFunction<? super Exception> func) {
+        return failure == null ? value : func.applyAsInt(failure.exception());
+    }
+
+    public int getOrThrow() throws Exception {
+        if (failure != null) {
+            throw failure.exception();
+        }
+        return value;
+    }
+
+    public Exception exceptionOrNull() {
+        return failure == null ? null : failure.exception();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof IntResult other
+                && value == other.value
+                && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return failure == null ? Integer.hashCode(value) : failure.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "IntResult[value=" + value + "]" : "IntResult[exception=" + failure.exception() + "]";
+    }
+}
@@ -0,0 +1,184 @@
+package result;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Lazy, memoized Result.
+ * <p>
+ * Combinators only record steps, nothing runs until terminal operation
+ * ({@link #get()}, {@link #fold(Function, Function)}, {@link #getOrThrow()}, {@link #getOrElse(Function)},
+ * {@link #isSuccess()}, etc.) is called. Outcome of every step is computed at most once and is stored
+ * in a thread-safe way, concurrent callers wait for the single computation. Unchecked exception or Error
+ * thrown by non-catching step is stored too and rethrown by every terminal operation. Lock is used instead of
+ * synchronized, so waiting virtual threads do not pin carrier threads, it is allocated on the first computation.
+ *
+ * @param <T> result type
+ */
+public final class LazyResult<T> {
+
+    private record Thrown(Throwable throwable) {}
+
+    private static final VarHandle LOCK;
+
+    static {
+        try {
+            LOCK = MethodHandles.lookup().findVarHandle(LazyResult.class, "lock", ReentrantLock.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private volatile ReentrantLock lock;
+    private Supplier<Result<T>> computation;
+    //Result or Thrown
+    private volatile Object outcome;
+
+    private LazyResult(Supplier<Result<T>> computation) {
+        this.computation = computation;
+    }
+
+    /**
+     * Creates lazy result from supplier that may throw an exception.
+     * @param <T> result type
+     * @param supplier supplier, it is invoked at most once
+     * @return lazy result
+     */
+    public static <T> LazyResult<T> of(CheckedSupplier<T> supplier) {
+        return new LazyResult<>(() -> Result.runCatching(supplier));
+    }
+
+    public <R> LazyResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new LazyResult<>(() -> get().map(mapper));
+    }
+
+    public <R> LazyResult<R> mapCatching(CheckedFunction<? super T, ? extends R> mapper) {
+        return new LazyResult<>(() -> get().mapCatching(mapper));
+    }
+
+    public <R> LazyResult<R> flatMap(Function<? super T, ? extends Result<? extends R>> mapper) {
+        return new LazyResult<>(() -> get().flatMap(mapper));
+    }
+
+    public LazyResult<T> filter(Predicate<? super T> predicate) {
+        return new LazyResult<>(() -> get().filter(predicate));
+    }
+
+    public <R> LazyResult<R> recover(Function<? super Exception, ? extends R> func) {
+        return new LazyResult<>(() -> get().recover(func));
+    }
+
+    public <R> LazyResult<R> recoverCatching(CheckedFunction<? super Exception, ? extends R> func) {
+        return new LazyResult<>(() -> get().recoverCatching(func));
+    }
+
+    /**
+     * Computes result if it is not computed yet.
+     * @return result
+     * @throws RuntimeException or Error thrown by non-catching step, the same one on every call
+     */
+    public Result<T> get() {
+        Object o = outcome;
+        return unwrap(o != null ? o : compute());
+    }
+
+    private Object compute() {
+        var l = lock();
+        l.lock();
+        try {
+            Object o = outcome;
+            if (o == null) {
+                try {
+                    o = computation.get();
+                } catch (RuntimeException | Error e) {
+                    o = new Thrown(e);
+                }
+                outcome = o;
+                computation = null;
+            }
+            return o;
+        } finally {
+            l.unlock();
+        }
+    }
+
+    private ReentrantLock lock() {
+        var l = (ReentrantLock) LOCK.getAcquire(this);
+        if (l == null) {
+            var fresh = new ReentrantLock();
+            l = (ReentrantLock) LOCK.compareAndExchange(this, null, fresh);
+            if (l == null) {
+                l = fresh;
+            }
+        }
+        return l;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<T> unwrap(Object o) {
+        if (o instanceof Thrown t) {
+            if (t.throwable() instanceof Error e) {
+                throw e;
+            }
+            throw (RuntimeException) t.throwable();
+        }
+        return (Result<T>) o;
+    }
+
+    /**
+     * Checks if result is already computed, does not trigger computation.
+     * @return true if computed
+     */
+    public boolean isEvaluated() {
+        return outcome != null;
+    }
+
+    public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Exception, ? extends R> onError) {
+        return get().fold(onSuccess, onError);
+    }
+
+    public T getOrThrow() throws Exception {
+        return get().getOrThrow();
+    }
+
+    public T getOrElse(Function<? super Exception, ? extends T> func) {
+        return get().getOrElse(func);
+    }
+
+    public T getOrDefault(T defaultValue) {
+        return get().getOrDefault(defaultValue);
+    }
+
+    public T getOrNull() {
+        return get().getOrNull();
+    }
+
+    public Exception exceptionOrNull() {
+        return get().exceptionOrNull();
+    }
+
+    public boolean isSuccess() {
+        return get().isSuccess();
+    }
+
+    public boolean isFailure() {
+        return get().isFailure();
+    }
+
+    @Override
+    public String toString() {
+        Object o = outcome;
+        if (o instanceof Thrown t) {
+            return "LazyResult[thrown " + t.throwable() + "]";
+        }
+        return o == null ? "LazyResult[not evaluated]" : "LazyResult[" + o + "]";
+    }
+}
@@ -0,0 +1,15 @@
+package result;
+
+/**
+ * Failure cause of calls rejected by {@link ConcurrencyLimiter}.
+ * <p>
+ * Stackless and without suppressed exceptions, so one instance per limiter is shared by all rejections.
+ */
+public class LimitExceededException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public LimitExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
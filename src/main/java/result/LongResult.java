@@ -0,0 +1,178 @@
+package result;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Result specialized for primitive {@code long} values, avoids boxing in tight numeric loops.
+ * <p>
+ * Failed primitive result holds {@link Failure}, so interceptor fires once per failure
+ * and the same Failure is returned by {@link #toResult()}.
+ * Use {@link #toResult()} and {@link #from(Result)} to convert at the edges.
+ */
+public final class LongResult {
+
+    /** Long supplier that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedLongSupplier {long getAsLong() throws Exception;}
+
+    /** Long unary operator that may throw an exception */
+    @FunctionalInterface
+    public interface CheckedLongUnaryOperator {long applyAsLong(long operand) throws Exception;}
+
+    private final long value;
+    private final Failure<Long> failure;
+
+    private LongResult(long value, Failure<Long> failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Factory method to produce successful result.
+     * @param value value
+     * @return successful result
+     */
+    public static LongResult of(long value) {
+        return new LongResult(value, null);
+    }
+
+    /**
+     * Factory method to produce failed result.
+     * @param e exception
+     * @return failed result
+     */
+    public static LongResult failure(Exception e) {
+        return new LongResult(0L, new Failure<>(e));
+    }
+
+    /**
+     * Factory method to produce result from supplier that may throw an exception.
+     * @param supplier supplier
+     * @return result
+     */
+    public static LongResult runCatching(CheckedLongSupplier supplier) {
+        try {
+            return of(supplier.getAsLong());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Converts boxed result to primitive one, null value becomes failure with {@link NoSuchElementException}.
+     * @param result boxed result
+     * @return primitive result
+     */
+    @SuppressWarnings("unchecked")
+    public static LongResult from(Result<? extends Long> result) {
+        if (result instanceof Success<? extends Long> s) {
+            return s.value() == null ? failure(Result.NO_SUCH_ELEMENT) : of(s.value());
+        }
+        return new LongResult(0L, (Failure<Long>) result);
+    }
+
+    /**
+     * Converts this result to boxed {@code Result<Long>}.
+     * @return boxed result
+     */
+    public Result<Long> toResult() {
+        return failure == null ? Success.of(value) : failure;
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    public LongResult map(LongUnaryOperator mapper) {
+        return failure == null ? of(mapper.applyAsLong(value)) : this;
+    }
+
+    public LongResult mapCatching(CheckedLongUnaryOperator mapper) {
+        if (failure != null) {
+            return this;
+        }
+        try {
+            return of(mapper.applyAsLong(value));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> mapToObj(LongFunction<? extends R> mapper) {
+        return failure == null ? Success.of(mapper.apply(value)) : (Result<R>) (Result<?>) failure;
+    }
+
+    public LongResult flatMap(LongFunction<LongResult> mapper) {
+        return failure == null ? mapper.apply(value) : this;
+    }
+
+    public LongResult filter(LongPredicate predicate) {
+        return failure != null || predicate.test(value) ? this : failure(Result.NO_SUCH_ELEMENT);
+    }
+
+    public LongResult onSuccess(LongConsumer consumer) {
+        if (failure == null) {
+            consumer.accept(value);
+        }
+        return this;
+    }
+
+    public LongResult onFailure(Consumer<Exception> errHandler) {
+        if (failure != null) {
+            errHandler.accept(failure.exception());
+        }
+        return this;
+    }
+
+    public LongResult recover(ToLongFunction<? super Exception> func) {
+        return failure == null ? this : of(func.applyAsLong(failure.exception()));
+    }
+
+    public long getOrElse(long defaultValue) {
+        return failure == null ? value : defaultValue;
+    }
+
+    public long getOrElse(ToLongFunction<? super Exception> func) {
+        return failure == null ? value : func.applyAsLong(failure.exception());
+    }
+
+    public long getOrThrow() throws Exception {
+        if (failure != null) {
+            throw failure.exception();
+        }
+        return value;
+    }
+
+    public Exception exceptionOrNull() {
+        return failure == null ? null : failure.exception();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof LongResult other
+                && value == other.value
+                && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return failure == null ? Long.hashCode(value) : failure.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "LongResult[value=" + value + "]" : "LongResult[exception=" + failure.exception() + "]";
+    }
+}
@@ -0,0 +1,180 @@
+package result;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import result.Result.CheckedFunction;
+
+/**
+ * Memoized function, see {@link Results#memoize(CheckedFunction, CachePolicy)}.
+ * <p>
+ * Entries live in {@link ConcurrentHashMap}, size is bounded by CLOCK (second chance) eviction
+ * which approximates LRU without locks. Concurrent calls with the same key invoke the function once.
+ * If failures are cached, hits return the same Failure as the loading caller got, so cached exceptions
+ * retain their stacks; prefer {@link StacklessException} for expected failures or trim them with
+ * {@link Failure#trim(int, int)}. Error thrown by the function is rethrown to the loading caller and to
+ * concurrent callers waiting for the same key, it is not cached.
+ *
+ * @param <T> key type
+ * @param <R> result type
+ */
+public final class MemoizedFunction<T, R> implements Function<T, Result<R>> {
+
+    /**
+     * Cache statistics.
+     * @param hits number of hits
+     * @param misses number of misses
+     * @param evictions number of entries evicted by size or expired
+     */
+    public record Stats(long hits, long misses, long evictions) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private static final class Entry<T, R> {
+        final T key;
+        final CompletableFuture<Result<R>> future = new CompletableFuture<>();
+        long loadedAt;
+        long ttl;
+        volatile boolean accessed;
+
+        Entry(T key) {
+            this.key = key;
+        }
+
+        boolean isExpired(long now) {
+            //loadedAt and ttl are published by future completion
+            return future.isDone() && now - loadedAt >= ttl;
+        }
+    }
+
+    private final CheckedFunction<T, R> function;
+    private final int maxSize;
+    private final long successTtl;
+    private final long failureTtl;
+    private final LongSupplier clock;
+
+    private final Map<T, Entry<T, R>> map = new ConcurrentHashMap<>();
+    private final Queue<Entry<T, R>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoizedFunction(CheckedFunction<T, R> function, CachePolicy policy, LongSupplier clock) {
+        this.function = function;
+        this.maxSize = policy.maxSize();
+        this.successTtl = CachePolicy.nanos(policy.successTtl());
+        this.failureTtl = CachePolicy.nanos(policy.failureTtl());
+        this.clock = clock;
+    }
+
+    @Override
+    public Result<R> apply(T key) {
+        Entry<T, R> e = map.get(key);
+        if (e != null) {
+            if (!e.isExpired(clock.getAsLong())) {
+                hits.increment();
+                e.accessed = true;
+                return join(e);
+            }
+            if (map.remove(key, e)) {
+                evictions.increment();
+            }
+        }
+        var fresh = new Entry<T, R>(key);
+        e = map.putIfAbsent(key, fresh);
+        if (e != null) {
+            //loaded concurrently
+            hits.increment();
+            e.accessed = true;
+            return join(e);
+        }
+        misses.increment();
+        queue.offer(fresh);
+        queued.incrementAndGet();
+        evict();
+        return load(fresh);
+    }
+
+    private Result<R> join(Entry<T, R> e) {
+        try {
+            return e.future.join();
+        } catch (CompletionException ex) {
+            //only Errors complete future exceptionally
+            throw (Error) ex.getCause();
+        }
+    }
+
+    private Result<R> load(Entry<T, R> entry) {
+        Result<R> result;
+        try {
+            result = new Success<>(function.apply(entry.key));
+            entry.ttl = successTtl;
+        } catch (Exception ex) {
+            result = new Failure<>(ex);
+            entry.ttl = failureTtl;
+        } catch (Error err) {
+            map.remove(entry.key, entry);
+            entry.future.completeExceptionally(err);
+            throw err;
+        }
+        entry.loadedAt = clock.getAsLong();
+        entry.future.complete(result);
+        if (entry.ttl == 0) {
+            map.remove(entry.key, entry);
+        }
+        return result;
+    }
+
+    /**
+     * Second chance eviction, also drops queue nodes of removed entries.
+     */
+    private void evict() {
+        long budget = 2L * queued.get() + 1;
+        while ((map.size() > maxSize || queued.get() > 2L * maxSize) && budget-- > 0) {
+            var e = queue.poll();
+            if (e == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            if (map.get(e.key) != e) {
+                continue;
+            }
+            if (e.accessed || map.size() <= maxSize) {
+                e.accessed = false;
+                queue.offer(e);
+                queued.incrementAndGet();
+            } else if (map.remove(e.key, e)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public void invalidate(T key) {
+        map.remove(key);
+    }
+
+    public void invalidateAll() {
+        map.clear();
+    }
+}
@@ -0,0 +1,146 @@
+package result;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Result with typed error channel.
+ * <p>
+ * Error is any value, for example enum or record, so expected errors like "not found" cost
+ * the same as success: no exception, no stack trace, no interceptor. Convert to {@link Result}
+ * at the edges with {@link #toResult(Function)}.
+ * <pre>{@code
+ *     enum LookupError {NOT_FOUND, RATE_LIMITED}
+ *
+ *     Outcome<User, LookupError> user = repository.find(id);
+ *     String name = user.map(User::name).getOrElse(err -> "unknown");
+ * }</pre>
+ *
+ * @param <T> value type
+ * @param <E> error type
+ */
+public sealed interface Outcome<T, E> permits Outcome.Ok, Outcome.Err {
+
+    record Ok<T, E>(T value) implements Outcome<T, E> {}
+
+    record Err<T, E>(E error) implements Outcome<T, E> {}
+
+    static <T, E> Outcome<T, E> ok(T value) {
+        return new Ok<>(value);
+    }
+
+    static <T, E> Outcome<T, E> err(E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Converts Result to Outcome with exception as error.
+     * @param <T> value type
+     * @param result result
+     * @return Ok for Success or Err for Failure
+     */
+    static <T> Outcome<T, Exception> fromResult(Result<T> result) {
+        if (result instanceof Success<T> s) {
+            return new Ok<>(s.value());
+        }
+        return new Err<>(result.exceptionOrNull());
+    }
+
+    @SuppressWarnings("unchecked")
+    default <R> Outcome<R, E> map(Function<? super T, ? extends R> mapper) {
+        if (this instanceof Ok<T, E> ok) {
+            return new Ok<>(mapper.apply(ok.value()));
+        }
+        return (Outcome<R, E>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> Outcome<T, F> mapErr(Function<? super E, ? extends F> mapper) {
+        if (this instanceof Err<T, E> err) {
+            return new Err<>(mapper.apply(err.error()));
+        }
+        return (Outcome<T, F>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    default <R> Outcome<R, E> flatMap(Function<? super T, ? extends Outcome<? extends R, E>> mapper) {
+        if (this instanceof Ok<T, E> ok) {
+            return (Outcome<R, E>) mapper.apply(ok.value());
+        }
+        return (Outcome<R, E>) this;
+    }
+
+    default Outcome<T, E> filter(Predicate<? super T> predicate, E error) {
+        if (this instanceof Ok<T, E> ok && !predicate.test(ok.value())) {
+            return new Err<>(error);
+        }
+        return this;
+    }
+
+    default Outcome<T, E> recover(Function<? super E, ? extends T> func) {
+        if (this instanceof Err<T, E> err) {
+            return new Ok<>(func.apply(err.error()));
+        }
+        return this;
+    }
+
+    default Outcome<T, E> onOk(Consumer<? super T> consumer) {
+        if (this instanceof Ok<T, E> ok) {
+            consumer.accept(ok.value());
+        }
+        return this;
+    }
+
+    default Outcome<T, E> onErr(Consumer<? super E> consumer) {
+        if (this instanceof Err<T, E> err) {
+            consumer.accept(err.error());
+        }
+        return this;
+    }
+
+    default <R> R fold(Function<? super T, ? extends R> onOk, Function<? super E, ? extends R> onErr) {
+        return this instanceof Ok<T, E> ok ? onOk.apply(ok.value()) : onErr.apply(((Err<T, E>) this).error());
+    }
+
+    default boolean isOk() {
+        return this instanceof Ok;
+    }
+
+    default boolean isErr() {
+        return this instanceof Err;
+    }
+
+    default T getOrElse(Function<? super E, ? extends T> func) {
+        return this instanceof Ok<T, E> ok ? ok.value() : func.apply(((Err<T, E>) this).error());
+    }
+
+    default T getOrDefault(T defaultValue) {
+        return this instanceof Ok<T, E> ok ? ok.value() : defaultValue;
+    }
+
+    default T getOrNull() {
+        return this instanceof Ok<T, E> ok ? ok.value() : null;
+    }
+
+    default E errorOrNull() {
+        return this instanceof Err<T, E> err ? err.error() : null;
+    }
+
+    default Optional<T> optional() {
+        return this instanceof Ok<T, E> ok ? Optional.ofNullable(ok.value()) : Optional.empty();
+    }
+
+    /**
+     * Converts to Result, exception is created only for Err.
+     * @param toException error to exception mapper
+     * @return Success or Failure
+     */
+    default Result<T> toResult(Function<? super E, ? extends Exception> toException) {
+        if (this instanceof Ok<T, E> ok) {
+            return new Success<>(ok.value());
+        }
+        return new Failure<>(toException.apply(((Err<T, E>) this).error()));
+    }
+}
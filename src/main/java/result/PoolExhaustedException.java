@@ -0,0 +1,15 @@
+package result;
+
+/**
+ * Failure cause of {@link ResultPool#lease()} when all objects are leased.
+ * <p>
+ * Stackless and without suppressed exceptions, so one instance per pool is shared by all rejections.
+ */
+public class PoolExhaustedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public PoolExhaustedException(String message) {
+        super(message, null, false, false);
+    }
+}
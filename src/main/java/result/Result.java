@@ -1,5 +1,6 @@
 package result;
 
+import java.time.Duration;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -20,33 +21,68 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
     
     @SuppressWarnings("unchecked")
     default <R> Result<R> map(Function<? super T, ? extends R> mapper) {
-        return (Result<R>) fold(v -> Success.of(mapper.apply(v)), __ -> this);
+        if (this instanceof Success<T> s) {
+            return new Success<>(mapper.apply(s.value()));
+        }
+        return (Result<R>) this;
     }
     
     @SuppressWarnings("unchecked")
     default <R> Result<R> flatMap(Function<? super T, ? extends Result<? extends R>> mapper) {
-        return (Result<R>) fold(v -> mapper.apply(v), __ -> this);
+        if (this instanceof Success<T> s) {
+            return (Result<R>) mapper.apply(s.value());
+        }
+        return (Result<R>) this;
     }
     
     @SuppressWarnings("unchecked")
     default <R> Result<R> mapCatching(CheckedFunction<? super T, ? extends R> mapper) {
-        return (Result<R>) fold(__ -> flatMap(Result.lift(mapper)), __ -> this);
+        if (this instanceof Success<T> s) {
+            if (ResultEvents.runCatchingEnabled) {
+                return ResultEvents.mapCatching(s.value(), mapper);
+            }
+            if (ResultMetrics.enabled) {
+                return ResultMetrics.mapCatching(s.value(), mapper);
+            }
+            try {
+                return new Success<>(mapper.apply(s.value()));
+            } catch (Exception e) {
+                return new Failure<>(e);
+            }
+        }
+        return (Result<R>) this;
     }
 
     default Result<T> filter(Predicate<? super T> predicate) {
-        return fold(v -> predicate.test(v) ? this : Failure.of(NO_SUCH_ELEMENT), __ -> this);
+        if (this instanceof Success<T> s && !predicate.test(s.value())) {
+            return new Failure<>(NO_SUCH_ELEMENT);
+        }
+        return this;
     }
     
     default Result<T> onFailure(Consumer<Exception> errHandler) {
-        return fold(__ -> this, e -> {errHandler.accept(e); return this;});
+        if (this instanceof Failure<T> f) {
+            errHandler.accept(f.exception());
+        }
+        return this;
     }
 
     default Result<T> onSuccess(Consumer<T> consumer) {
-        return fold(v -> {consumer.accept(v); return this;}, e -> this);
+        if (this instanceof Success<T> s) {
+            consumer.accept(s.value());
+        }
+        return this;
     }
 
     default Result<T> onSuccessCatching(CheckedConsumer<T> consumer) {
-        return fold(v -> lift(toFunction(consumer)).apply(v), e -> this);
+        if (this instanceof Success<T> s) {
+            try {
+                consumer.accept(s.value());
+            } catch (Exception e) {
+                return new Failure<>(e);
+            }
+        }
+        return this;
     }
 
     /**
@@ -54,7 +90,7 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
      * @return {@code Optional<T>} for Success or Optional.empty() for Failure.
      */
     default Optional<T> optional() {
-        return fold(v -> Optional.of(v), __ -> Optional.empty());
+        return this instanceof Success<T> s ? Optional.of(s.value()) : Optional.empty();
     }
     
     /**
@@ -62,42 +98,55 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
      * @return {@code Stream<T>} for Success or Stream.empty() for Failure.
      */
     default Stream<T> stream() {
-        return fold(v -> Stream.of(v), __ -> Stream.empty());
+        return this instanceof Success<T> s ? Stream.of(s.value()) : Stream.empty();
     }
     
     default boolean isSuccess() {
-        return fold(__ -> true, __ -> false);
+        return this instanceof Success;
     }
     
     default boolean isFailure() {
-        return !isSuccess();
+        return this instanceof Failure;
     }
     
     default T getOrNull() {
-        return fold(v -> v, __ -> null);
+        return this instanceof Success<T> s ? s.value() : null;
     }
 
     default T getOrDefault(T defaultValue) {
-        return getOrElse(e -> defaultValue);
+        return this instanceof Success<T> s ? s.value() : defaultValue;
     }
     
     default T getOrElse(Function<? super Exception, ? extends T> func) {
-        return fold(v -> v, e -> func.apply(e));
+        if (this instanceof Failure<T> f) {
+            return func.apply(f.exception());
+        }
+        return ((Success<T>) this).value();
     }
 
     default Exception exceptionOrNull() {
-        return fold(__ -> null, e -> e);
+        return this instanceof Failure<T> f ? f.exception() : null;
     }
     
 
     @SuppressWarnings("unchecked")
     default <R> Result<R> recover(Function<? super Exception, ? extends R> func) {
-        return (Result<R>) fold(__ -> this, e -> Success.of(func.apply(e)));
+        if (this instanceof Failure<T> f) {
+            return new Success<>(func.apply(f.exception()));
+        }
+        return (Result<R>) this;
     }
     
     @SuppressWarnings("unchecked")
     default <R> Result<R> recoverCatching(CheckedFunction<? super Exception, ? extends R> func) {
-        return (Result<R>) fold(__ -> this, e -> lift(func).apply(e));
+        if (this instanceof Failure<T> f) {
+            try {
+                return new Success<>(func.apply(f.exception()));
+            } catch (Exception e) {
+                return new Failure<>(e);
+            }
+        }
+        return (Result<R>) this;
     }
     
     T getOrThrow() throws Exception;
@@ -127,7 +176,35 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
      * @return {@code Result<T>}
      */
     static <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
-        return lift(toFunction(supplier)).apply(null);
+        if (ResultEvents.runCatchingEnabled) {
+            return ResultEvents.runCatching(supplier);
+        }
+        if (ResultMetrics.enabled) {
+            return ResultMetrics.runCatching(supplier);
+        }
+        try {
+            return new Success<>(supplier.get());
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Failure with {@link StacklessException}, the cheapest failure, stack is not captured.
+     * @param <T> Result type
+     * @param message exception message
+     * @return {@code Failure<T>}
+     */
+    static <T> Result<T> failure(String message) {
+        return new Failure<>(new StacklessException(message));
+    }
+
+    /**
+     * Shared successful result without value.
+     * @return {@code Success<Void>} with null value
+     */
+    static Result<Void> unit() {
+        return Success.unit();
     }
 
     /**
@@ -136,7 +213,55 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
      * @return {@code Result<Void>}
      */
     static Result<Void> runCatching(CheckedRunnable runnable) {
-        return lift(toFunction(runnable)).apply(null);
+        if (ResultEvents.runCatchingEnabled) {
+            return ResultEvents.runCatching(runnable);
+        }
+        try {
+            runnable.run();
+            if (ResultMetrics.enabled) {
+                ResultMetrics.onSuccess();
+            }
+            return unit();
+        } catch (Exception e) {
+            if (ResultMetrics.enabled) {
+                ResultMetrics.onFailure(e);
+            }
+            return new Failure<>(e);
+        }
+    }
+    
+    /**
+     * Runs supplier on virtual thread, waits at most timeout, interrupts supplier on timeout.
+     * @param <T> Result type
+     * @param supplier supplier that may throw an exception.
+     * @param timeout timeout
+     * @return {@code Result<T>} or Failure with TimeoutException
+     * @see Deadline
+     */
+    static <T> Result<T> runCatching(CheckedSupplier<T> supplier, Duration timeout) {
+        return Deadline.after(timeout).runCatching(supplier);
+    }
+
+    /**
+     * Runs supplier with retries according to policy, sleeps on the current thread between attempts.
+     * Only the final outcome produces Result, earlier exceptions are attached to the final one as suppressed.
+     * @param <T> Result type
+     * @param supplier supplier that may throw an exception.
+     * @param policy retry policy
+     * @return {@code Result<T>}
+     */
+    static <T> Result<T> retry(CheckedSupplier<T> supplier, RetryPolicy policy) {
+        return policy.run(supplier);
+    }
+
+    /**
+     * Factory method to produce lazy Result, supplier is not invoked until terminal operation.
+     * @param <T> Result type
+     * @param supplier supplier that may throw an exception.
+     * @return {@code LazyResult<T>}
+     */
+    static <T> LazyResult<T> lazy(CheckedSupplier<T> supplier) {
+        return LazyResult.of(supplier);
     }
     
     /**
@@ -149,7 +274,7 @@ public sealed interface Result<T> extends AutoCloseable permits Success, Failure
     static <T, R> Function<T, Result<R>> lift(CheckedFunction<T, R> partialFunc) {
         return (T t) -> {
             try {
-                return new Success<>(partialFunc.apply(t));
+                return Success.of(partialFunc.apply(t));
             } catch (Exception e) {
                 return new Failure<>(e);
             }
@@ -0,0 +1,323 @@
+package result;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary codec of results.
+ * <p>
+ * Success is encoded as tag and value written by pluggable {@link ValueCodec}, Failure as tag,
+ * exception class name, message and at most {@code maxFrames} stack frames. Strings are UTF-8 with
+ * length prefix and are decoded directly from heap buffer. Decoded exception is instance of the original class
+ * if it is an Exception with public (String) constructor, otherwise {@link UnknownException}.
+ * <pre>{@code
+ *     var codec = new ResultCodec<>(ResultCodec.ValueCodec.STRING, 8);
+ *     codec.encode(result, buffer);
+ *     buffer.flip();
+ *     Result<String> copy = codec.decode(buffer);
+ * }</pre>
+ * Decoded Failure is created with Failure constructor, so interceptor fires on the receiving side too.
+ * Decoding instantiates classes named in the input, use it with trusted peers only. Constructors of resolved
+ * classes are cached up to {@value #MAX_CONSTRUCTORS} classes, names which do not resolve are not cached.
+ * Corrupted or truncated input fails with {@link IllegalArgumentException}.
+ *
+ * @param <T> value type
+ */
+public final class ResultCodec<T> {
+
+    /**
+     * Value codec, reads and writes value at the buffer position.
+     * @param <T> value type
+     */
+    public interface ValueCodec<T> {
+
+        void encode(T value, ByteBuffer buffer);
+
+        T decode(ByteBuffer buffer);
+
+        ValueCodec<Integer> INT = new ValueCodec<>() {
+            @Override
+            public void encode(Integer value, ByteBuffer buffer) {
+                buffer.putInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+
+        ValueCodec<Long> LONG = new ValueCodec<>() {
+            @Override
+            public void encode(Long value, ByteBuffer buffer) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+
+        ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+            @Override
+            public void encode(Double value, ByteBuffer buffer) {
+                buffer.putDouble(value);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+        };
+
+        ValueCodec<String> STRING = new ValueCodec<>() {
+            @Override
+            public void encode(String value, ByteBuffer buffer) {
+                putString(value, buffer);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                return getString(buffer);
+            }
+        };
+    }
+
+    /**
+     * Decoded exception of class which is unknown or cannot be instantiated.
+     */
+    public static class UnknownException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        public UnknownException(String className, String message) {
+            super(message, null, false, true);
+            this.className = className;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public String toString() {
+            var message = getMessage();
+            return message == null ? className : className + ": " + message;
+        }
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte SUCCESS_NULL = 1;
+    private static final byte FAILURE = 2;
+    private static final MethodType STRING_CONSTRUCTOR = MethodType.methodType(void.class, String.class);
+    private static final int MAX_CONSTRUCTORS = 1024;
+    //three string length prefixes and line number
+    private static final int MIN_FRAME_BYTES = 16;
+    private static final Map<String, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    private final ValueCodec<T> valueCodec;
+    private final int maxFrames;
+
+    /**
+     * Constructor.
+     * @param valueCodec codec of Success values
+     * @param maxFrames maximum number of encoded stack frames, 0 for no stack
+     */
+    public ResultCodec(ValueCodec<T> valueCodec, int maxFrames) {
+        if (maxFrames < 0 || maxFrames > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maxFrames: " + maxFrames);
+        }
+        this.valueCodec = valueCodec;
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Writes result at the buffer position.
+     * @param result result
+     * @param buffer buffer
+     * @throws java.nio.BufferOverflowException if buffer is too small
+     */
+    public void encode(Result<? extends T> result, ByteBuffer buffer) {
+        if (result instanceof Success<? extends T> s) {
+            if (s.value() == null) {
+                buffer.put(SUCCESS_NULL);
+            } else {
+                buffer.put(SUCCESS);
+                valueCodec.encode(s.value(), buffer);
+            }
+            return;
+        }
+        var e = result.exceptionOrNull();
+        buffer.put(FAILURE);
+        putString(e instanceof UnknownException u ? u.getClassName() : e.getClass().getName(), buffer);
+        putString(e.getMessage(), buffer);
+        var trace = maxFrames == 0 ? new StackTraceElement[0] : e.getStackTrace();
+        int frames = Math.min(maxFrames, trace.length);
+        buffer.putShort((short) frames);
+        for (int i = 0; i < frames; i++) {
+            var f = trace[i];
+            putString(f.getClassName(), buffer);
+            putString(f.getMethodName(), buffer);
+            putString(f.getFileName(), buffer);
+            buffer.putInt(f.getLineNumber());
+        }
+    }
+
+    /**
+     * Reads result at the buffer position.
+     * @param buffer buffer
+     * @return decoded result
+     * @throws IllegalArgumentException if input is corrupted or truncated
+     */
+    public Result<T> decode(ByteBuffer buffer) {
+        try {
+            return read(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated result", e);
+        }
+    }
+
+    private Result<T> read(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case SUCCESS:
+                return new Success<>(valueCodec.decode(buffer));
+            case SUCCESS_NULL:
+                return Success.of(null);
+            case FAILURE:
+                return new Failure<>(decodeException(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown result tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes number of results and the results.
+     * @param results results
+     * @param buffer buffer
+     */
+    public void encodeAll(List<? extends Result<? extends T>> results, ByteBuffer buffer) {
+        buffer.putInt(results.size());
+        for (var r : results) {
+            encode(r, buffer);
+        }
+    }
+
+    /**
+     * Reads results written by {@link #encodeAll(List, ByteBuffer)}.
+     * @param buffer buffer
+     * @return unmodifiable list of results
+     * @throws IllegalArgumentException if input is corrupted or truncated
+     */
+    public List<Result<T>> decodeAll(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            throw new IllegalArgumentException("Truncated result list");
+        }
+        int size = buffer.getInt();
+        //every result takes at least one byte
+        if (size < 0 || size > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid result list size: " + size);
+        }
+        var list = new ArrayList<Result<T>>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(decode(buffer));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    private Exception decodeException(ByteBuffer buffer) {
+        var className = getString(buffer);
+        var message = getString(buffer);
+        int frames = buffer.getShort();
+        if (frames < 0 || frames > buffer.remaining() / MIN_FRAME_BYTES) {
+            throw new IllegalArgumentException("Invalid number of frames: " + frames);
+        }
+        var trace = new StackTraceElement[frames];
+        for (int i = 0; i < frames; i++) {
+            var declaringClass = getString(buffer);
+            var methodName = getString(buffer);
+            var fileName = getString(buffer);
+            trace[i] = new StackTraceElement(declaringClass, methodName, fileName, buffer.getInt());
+        }
+        var e = newException(className, message);
+        e.setStackTrace(trace);
+        return e;
+    }
+
+    private static Exception newException(String className, String message) {
+        var constructor = constructors.get(className);
+        if (constructor == null) {
+            constructor = findConstructor(className);
+            if (constructor == null) {
+                return new UnknownException(className, message);
+            }
+            if (constructors.size() < MAX_CONSTRUCTORS) {
+                constructors.putIfAbsent(className, constructor);
+            }
+        }
+        try {
+            return (Exception) constructor.invoke(message);
+        } catch (Throwable t) {
+            //constructor failed, fall back to unknown
+            return new UnknownException(className, message);
+        }
+    }
+
+    private static MethodHandle findConstructor(String className) {
+        try {
+            var type = Class.forName(className, false, ResultCodec.class.getClassLoader());
+            if (Exception.class.isAssignableFrom(type)) {
+                return MethodHandles.publicLookup().findConstructor(type, STRING_CONSTRUCTOR)
+                        .asType(MethodType.methodType(Object.class, String.class));
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            //unknown class or no (String) constructor
+        }
+        return null;
+    }
+
+    static int cachedConstructors() {
+        return constructors.size();
+    }
+
+    static void putString(String s, ByteBuffer buffer) {
+        if (s == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        String s;
+        if (buffer.hasArray()) {
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,139 @@
+package result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Single pass {@link Collector}s for streams of results, safe for parallel streams.
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {}
+
+    /**
+     * Successful values and exceptions of failures.
+     * @param <T> value type
+     * @param successes values of successes in encounter order
+     * @param failures exceptions of failures in encounter order
+     */
+    public record Partition<T>(List<T> successes, List<Exception> failures) {}
+
+    /**
+     * Number of successes and failures.
+     * @param successes number of successes
+     * @param failures number of failures
+     */
+    public record Counts(long successes, long failures) {}
+
+    /**
+     * Partitions results into successful values and exceptions.
+     * @param <T> value type
+     * @return collector
+     */
+    public static <T> Collector<Result<? extends T>, ?, Partition<T>> partitioning() {
+        return Collector.<Result<? extends T>, Acc<T>, Partition<T>>of(
+                Acc::new,
+                Acc::add,
+                Acc::merge,
+                acc -> new Partition<>(Collections.unmodifiableList(acc.values), Collections.unmodifiableList(acc.exceptions)));
+    }
+
+    /**
+     * Collects values to list, the first failure in encounter order wins,
+     * values are not accumulated after failure.
+     * @param <T> value type
+     * @return collector producing Success with values or the first Failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Collector<Result<? extends T>, ?, Result<List<T>>> toResultList() {
+        return Collector.<Result<? extends T>, FailFast<T>, Result<List<T>>>of(
+                FailFast::new,
+                FailFast::add,
+                FailFast::merge,
+                acc -> acc.failure != null
+                        ? (Result<List<T>>) acc.failure
+                        : Success.of(Collections.unmodifiableList(acc.values)));
+    }
+
+    /**
+     * Collects values to list, if there are failures produces Failure with {@link AggregateException}
+     * which keeps all exceptions as suppressed ones in encounter order.
+     * @param <T> value type
+     * @return collector producing Success with values or Failure with all exceptions
+     */
+    public static <T> Collector<Result<? extends T>, ?, Result<List<T>>> accumulating() {
+        return Collector.<Result<? extends T>, Acc<T>, Result<List<T>>>of(
+                Acc::new,
+                Acc::add,
+                Acc::merge,
+                acc -> acc.exceptions.isEmpty()
+                        ? Success.of(Collections.unmodifiableList(acc.values))
+                        : Failure.of(new AggregateException(acc.exceptions.size() + " of "
+                                + (acc.exceptions.size() + acc.values.size()) + " results failed", acc.exceptions)));
+    }
+
+    /**
+     * Counts successes and failures.
+     * @return collector
+     */
+    public static Collector<Result<?>, ?, Counts> counting() {
+        return Collector.<Result<?>, long[], Counts>of(
+                () -> new long[2],
+                (acc, r) -> acc[r.isSuccess() ? 0 : 1]++,
+                (l, r) -> {
+                    l[0] += r[0];
+                    l[1] += r[1];
+                    return l;
+                },
+                acc -> new Counts(acc[0], acc[1]));
+    }
+
+    private static class Acc<T> {
+        final List<T> values = new ArrayList<>();
+        final List<Exception> exceptions = new ArrayList<>();
+
+        void add(Result<? extends T> r) {
+            if (r instanceof Success<? extends T> s) {
+                values.add(s.value());
+            } else {
+                exceptions.add(r.exceptionOrNull());
+            }
+        }
+
+        Acc<T> merge(Acc<T> right) {
+            values.addAll(right.values);
+            exceptions.addAll(right.exceptions);
+            return this;
+        }
+    }
+
+    private static class FailFast<T> {
+        final List<T> values = new ArrayList<>();
+        Result<?> failure;
+
+        void add(Result<? extends T> r) {
+            if (failure != null) {
+                return;
+            }
+            if (r instanceof Success<? extends T> s) {
+                values.add(s.value());
+            } else {
+                failure = r;
+                values.clear();
+            }
+        }
+
+        FailFast<T> merge(FailFast<T> right) {
+            if (failure != null) {
+                return this;
+            }
+            if (right.failure != null) {
+                return right;
+            }
+            values.addAll(right.values);
+            return this;
+        }
+    }
+}
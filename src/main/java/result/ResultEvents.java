@@ -0,0 +1,140 @@
+package result;
+
+import java.util.Objects;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedRunnable;
+import result.Result.CheckedSupplier;
+
+/**
+ * JFR instrumentation, see {@link FailureEvent} and {@link RunCatchingEvent}.
+ * <p>
+ * Flags are updated by recorder listener when recordings start or stop, so without recording
+ * the cost is one volatile read and JFR is not initialized by this library.
+ */
+final class ResultEvents {
+
+    static volatile boolean failureEnabled;
+    static volatile boolean runCatchingEnabled;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recordingStateChanged(Recording recording) {
+                    update();
+                }
+            });
+            if (FlightRecorder.isInitialized()) {
+                update();
+            }
+        } catch (Throwable e) {
+            //jdk.jfr module is not available, events stay disabled
+        }
+    }
+
+    private ResultEvents() {}
+
+    private static void update() {
+        failureEnabled = EventType.getEventType(FailureEvent.class).isEnabled();
+        runCatchingEnabled = EventType.getEventType(RunCatchingEvent.class).isEnabled();
+    }
+
+    static void onFailure(Exception exception) {
+        var event = new FailureEvent();
+        if (event.shouldCommit()) {
+            event.exceptionClass = exception == null ? null : exception.getClass();
+            event.message = exception == null ? null : exception.getMessage();
+            event.callSite = callSite();
+            event.commit();
+        }
+    }
+
+    static <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
+        var event = new RunCatchingEvent();
+        event.begin();
+        Result<T> result;
+        if (ResultMetrics.enabled) {
+            result = ResultMetrics.runCatching(supplier);
+        } else {
+            try {
+                result = new Success<>(supplier.get());
+            } catch (Exception e) {
+                result = new Failure<>(e);
+            }
+        }
+        commit(event, "runCatching", supplier, result);
+        return result;
+    }
+
+    static Result<Void> runCatching(CheckedRunnable runnable) {
+        var event = new RunCatchingEvent();
+        event.begin();
+        Result<Void> result;
+        try {
+            runnable.run();
+            if (ResultMetrics.enabled) {
+                ResultMetrics.onSuccess();
+            }
+            result = Result.unit();
+        } catch (Exception e) {
+            if (ResultMetrics.enabled) {
+                ResultMetrics.onFailure(e);
+            }
+            result = new Failure<>(e);
+        }
+        commit(event, "runCatching", runnable, result);
+        return result;
+    }
+
+    static <T, R> Result<R> mapCatching(T value, CheckedFunction<? super T, ? extends R> mapper) {
+        var event = new RunCatchingEvent();
+        event.begin();
+        Result<R> result;
+        if (ResultMetrics.enabled) {
+            result = ResultMetrics.mapCatching(value, mapper);
+        } else {
+            try {
+                result = new Success<>(mapper.apply(value));
+            } catch (Exception e) {
+                result = new Failure<>(e);
+            }
+        }
+        commit(event, "mapCatching", mapper, result);
+        return result;
+    }
+
+    private static void commit(RunCatchingEvent event, String operation, Object function, Result<?> result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.functionClass = function.getClass();
+            event.success = result.isSuccess();
+            var e = result.exceptionOrNull();
+            event.exceptionClass = e == null ? null : e.getClass();
+            event.commit();
+        }
+    }
+
+    /**
+     * The first frame which is not in the library package and code source. Package alone does not identify
+     * the library, shaded library shares code source with application, tests share package with it.
+     */
+    private static String callSite() {
+        var library = Failure.class.getProtectionDomain().getCodeSource();
+        var libraryPackage = Failure.class.getPackageName();
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .walk(frames -> frames
+                        .filter(f -> !(f.getDeclaringClass().getPackageName().equals(libraryPackage)
+                                && Objects.equals(library, f.getDeclaringClass().getProtectionDomain().getCodeSource())))
+                        .findFirst()
+                        .map(StackWalker.StackFrame::toStackTraceElement)
+                        .map(StackTraceElement::toString)
+                        .orElse(null));
+    }
+}
@@ -0,0 +1,203 @@
+package result;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Built-in failure metrics.
+ * <p>
+ * Counts outcomes of catching steps, {@link Result#runCatching(Result.CheckedSupplier)},
+ * {@link Result#runCatching(Result.CheckedRunnable)} and {@link Result#mapCatching(Result.CheckedFunction)}:
+ * successes, failures and failures per exception class, so failure ratio compares outcomes of the same calls.
+ * Failures created otherwise ({@code filter}, {@code Failure.of}, etc.) are not counted.
+ * Optionally collects latency histogram of runCatching suppliers.
+ * <p>
+ * Counters are striped {@link LongAdder}s, so they do not contend under load, but every counted call
+ * still pays one atomic add. Metrics are disabled by default, disabled metrics cost one volatile read.
+ * <p>
+ * Metrics are available via {@link #snapshot()} or platform MXBean, see {@link #registerMBean()}.
+ */
+public final class ResultMetrics implements ResultMetricsMXBean {
+
+    /**
+     * Metrics snapshot.
+     * @param successes number of successful catching calls
+     * @param failures number of failed catching calls
+     * @param failuresByType number of failures per exception class name
+     * @param latencyHistogram log2 histogram of runCatching latency in nanoseconds
+     */
+    public record Snapshot(long successes, long failures, Map<String, Long> failuresByType, long[] latencyHistogram) {
+        public double failureRatio() {
+            long total = successes + failures;
+            return total == 0 ? 0 : (double) failures / total;
+        }
+    }
+
+    private static final ResultMetrics INSTANCE = new ResultMetrics();
+    private static final String OBJECT_NAME = "result:type=ResultMetrics";
+
+    static volatile boolean enabled;
+    static volatile boolean latencyEnabled;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Map<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final LongAdder[] latency = new LongAdder[64];
+
+    private ResultMetrics() {
+        for (int i = 0; i < latency.length; i++) {
+            latency[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Global metrics instance.
+     * @return metrics
+     */
+    public static ResultMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers metrics as platform MXBean.
+     * @return object name
+     */
+    public static ObjectName registerMBean() {
+        try {
+            var name = new ObjectName(OBJECT_NAME);
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, name);
+            } catch (InstanceAlreadyExistsException e) {
+                //already registered
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void onFailure(Exception e) {
+        INSTANCE.failures.increment();
+        INSTANCE.failuresByType.computeIfAbsent(e.getClass(), c -> new LongAdder()).increment();
+    }
+
+    static void onSuccess() {
+        INSTANCE.successes.increment();
+    }
+
+    static void onLatency(long nanos) {
+        INSTANCE.latency[64 - Long.numberOfLeadingZeros(Math.max(0, nanos))].increment();
+    }
+
+    /**
+     * Runs supplier counting outcome and measuring latency if enabled.
+     */
+    static <T> Result<T> runCatching(Result.CheckedSupplier<T> supplier) {
+        if (!latencyEnabled) {
+            return count(supplier);
+        }
+        long start = System.nanoTime();
+        try {
+            return count(supplier);
+        } finally {
+            onLatency(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Maps value counting outcome.
+     */
+    static <T, R> Result<R> mapCatching(T value, Result.CheckedFunction<? super T, ? extends R> mapper) {
+        try {
+            R r = mapper.apply(value);
+            onSuccess();
+            return new Success<>(r);
+        } catch (Exception e) {
+            onFailure(e);
+            return new Failure<>(e);
+        }
+    }
+
+    private static <T> Result<T> count(Result.CheckedSupplier<T> supplier) {
+        try {
+            T value = supplier.get();
+            onSuccess();
+            return new Success<>(value);
+        } catch (Exception e) {
+            onFailure(e);
+            return new Failure<>(e);
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(getSuccessCount(), getFailureCount(), getFailureCountByType(), getLatencyHistogram());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    @Override
+    public boolean isLatencyEnabled() {
+        return latencyEnabled;
+    }
+
+    @Override
+    public void setLatencyEnabled(boolean enable) {
+        latencyEnabled = enable;
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getFailureRatio() {
+        return snapshot().failureRatio();
+    }
+
+    @Override
+    public Map<String, Long> getFailureCountByType() {
+        var map = new TreeMap<String, Long>();
+        failuresByType.forEach((c, n) -> map.put(c.getName(), n.sum()));
+        return map;
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] h = new long[latency.length];
+        for (int i = 0; i < h.length; i++) {
+            h[i] = latency[i].sum();
+        }
+        return h;
+    }
+
+    @Override
+    public void reset() {
+        successes.reset();
+        failures.reset();
+        failuresByType.clear();
+        for (LongAdder l : latency) {
+            l.reset();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package result;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ResultMetrics}, registered as {@code result:type=ResultMetrics}.
+ */
+public interface ResultMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    boolean isLatencyEnabled();
+
+    void setLatencyEnabled(boolean enabled);
+
+    long getSuccessCount();
+
+    long getFailureCount();
+
+    double getFailureRatio();
+
+    Map<String, Long> getFailureCountByType();
+
+    /**
+     * Histogram of runCatching supplier latency, element i is number of calls with latency in [2^(i-1), 2^i) nanoseconds.
+     * @return histogram
+     */
+    long[] getLatencyHistogram();
+
+    void reset();
+}
@@ -0,0 +1,237 @@
+package result;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Lock-free pool of AutoCloseable objects.
+ * <p>
+ * {@link #lease()} returns {@code Result<Lease<T>>}, so closing the Success closes the lease,
+ * which returns the object to the pool instead of closing it. Idle objects are kept in
+ * {@link ConcurrentLinkedDeque} in LIFO order, objects idle longer than {@code maxIdle}
+ * or failing health check are closed. Lease used with Failure outcome is marked broken and its object
+ * is closed on release.
+ * <pre>{@code
+ *     var pool = new ResultPool<>(() -> new Socket(host, port), 16, Duration.ofMinutes(1), s -> !s.isClosed());
+ *     try (var lease = pool.lease()) {
+ *         lease.flatMap(l -> l.use(s -> send(s, bytes)));
+ *     }
+ * }</pre>
+ *
+ * @param <T> pooled object type
+ */
+public final class ResultPool<T extends AutoCloseable> implements AutoCloseable {
+
+    /**
+     * Leased object, close returns it to the pool.
+     * @param <T> pooled object type
+     */
+    public static final class Lease<T extends AutoCloseable> implements AutoCloseable {
+        private final ResultPool<T> pool;
+        private final T object;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean broken;
+
+        private Lease(ResultPool<T> pool, T object) {
+            this.pool = pool;
+            this.object = object;
+        }
+
+        public T get() {
+            return object;
+        }
+
+        /**
+         * Applies function to leased object, Failure marks the lease broken.
+         * @param <R> result type
+         * @param func function that may throw an exception
+         * @return result of function
+         */
+        public <R> Result<R> use(CheckedFunction<? super T, ? extends R> func) {
+            try {
+                return new Success<>(func.apply(object));
+            } catch (Exception e) {
+                broken = true;
+                return new Failure<>(e);
+            }
+        }
+
+        /**
+         * Marks the lease broken, object will be closed instead of returning to the pool.
+         */
+        public void invalidate() {
+            broken = true;
+        }
+
+        public boolean isBroken() {
+            return broken;
+        }
+
+        /**
+         * Returns object to the pool, subsequent calls do nothing.
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                pool.release(object, broken);
+            }
+        }
+    }
+
+    private record Idle<T>(T object, long since) {}
+
+    private final CheckedSupplier<T> factory;
+    private final int maxSize;
+    private final long maxIdleNanos;
+    private final Predicate<? super T> healthCheck;
+    private final LongSupplier clock;
+    private final PoolExhaustedException exhausted = new PoolExhaustedException("Pool exhausted");
+
+    private final Deque<Idle<T>> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger allocated = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     * @param factory object factory
+     * @param maxSize maximum number of objects, leased and idle
+     * @param maxIdle maximum idle time
+     * @param healthCheck check of idle object before lease
+     */
+    public ResultPool(CheckedSupplier<T> factory, int maxSize, Duration maxIdle, Predicate<? super T> healthCheck) {
+        this(factory, maxSize, maxIdle, healthCheck, System::nanoTime);
+    }
+
+    ResultPool(CheckedSupplier<T> factory, int maxSize, Duration maxIdle, Predicate<? super T> healthCheck, LongSupplier clock) {
+        if (maxSize < 1 || maxIdle.isNegative()) {
+            throw new IllegalArgumentException("Invalid pool configuration");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.healthCheck = healthCheck;
+        this.clock = clock;
+    }
+
+    /**
+     * Leases idle object or creates new one.
+     * @return lease, Failure with factory exception or {@link PoolExhaustedException}
+     */
+    public Result<Lease<T>> lease() {
+        if (closed) {
+            return new Failure<>(new IllegalStateException("Pool is closed"));
+        }
+        long now = clock.getAsLong();
+        Idle<T> i;
+        while ((i = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (now - i.since() < maxIdleNanos && isHealthy(i.object())) {
+                return new Success<>(new Lease<>(this, i.object()));
+            }
+            destroy(i.object());
+        }
+        int n;
+        do {
+            n = allocated.get();
+            if (n >= maxSize) {
+                return new Failure<>(exhausted);
+            }
+        } while (!allocated.compareAndSet(n, n + 1));
+        try {
+            return new Success<>(new Lease<>(this, factory.get()));
+        } catch (Exception e) {
+            allocated.decrementAndGet();
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Leases object, applies function and releases the lease, Failure of function closes the object.
+     * @param <R> result type
+     * @param func function that may throw an exception
+     * @return result of function or lease failure
+     */
+    public <R> Result<R> use(CheckedFunction<? super T, ? extends R> func) {
+        return lease().flatMap(lease -> {
+            try (lease) {
+                return lease.use(func);
+            }
+        });
+    }
+
+    /**
+     * Closes objects idle longer than max idle time.
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        Idle<T> i;
+        //idle objects are pushed to the head, so the tail is the oldest
+        while ((i = idle.peekLast()) != null && now - i.since() >= maxIdleNanos) {
+            if (idle.removeLastOccurrence(i)) {
+                idleCount.decrementAndGet();
+                destroy(i.object());
+            }
+        }
+    }
+
+    /**
+     * Number of objects, leased and idle.
+     * @return size
+     */
+    public int size() {
+        return allocated.get();
+    }
+
+    public int idleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Closes idle objects, leased objects are closed when released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Idle<T> i;
+        while ((i = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            destroy(i.object());
+        }
+    }
+
+    private void release(T object, boolean broken) {
+        if (broken || closed) {
+            destroy(object);
+            return;
+        }
+        idle.offerFirst(new Idle<>(object, clock.getAsLong()));
+        idleCount.incrementAndGet();
+        if (closed) {
+            //raced with close
+            close();
+        }
+        evictIdle();
+    }
+
+    private boolean isHealthy(T object) {
+        try {
+            return healthCheck.test(object);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void destroy(T object) {
+        allocated.decrementAndGet();
+        Result.runCatching(object::close);
+    }
+}
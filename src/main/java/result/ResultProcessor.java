@@ -0,0 +1,197 @@
+package result;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import result.Result.CheckedFunction;
+
+/**
+ * {@link Flow.Processor} mapping items with function that may throw an exception.
+ * <p>
+ * Every item becomes {@code Result<R>}, so a bad item costs only its own Failure and does not terminate the stream.
+ * Failures are published downstream or, if dead letters are enabled, to {@link #deadLetters()} publisher.
+ * <p>
+ * Up to {@code parallelism} items are mapped concurrently on the executor, results are published in the input order.
+ * Upstream demand is bounded by {@code parallelism} and replenished in batches of {@code batchSize},
+ * downstream backpressure blocks publishing, so in-flight items stay bounded. Publishing runs on virtual thread,
+ * never on executor threads, so blocked publishing can not starve delivery on a bounded executor.
+ * <pre>{@code
+ *     var processor = new ResultProcessor<String, Order>(Order::parse, executor, 16, 8, true);
+ *     processor.deadLetters().subscribe(deadLetterSink);
+ *     processor.subscribe(orderSink);
+ *     source.subscribe(processor);
+ * }</pre>
+ *
+ * @param <T> item type
+ * @param <R> mapped type
+ */
+public class ResultProcessor<T, R> extends SubmissionPublisher<Result<R>> implements Flow.Processor<T, Result<R>> {
+
+    /**
+     * Item which failed mapping.
+     * @param <T> item type
+     * @param item item
+     * @param exception mapping exception
+     */
+    public record DeadLetter<T>(T item, Exception exception) {}
+
+    private record Pending<T, R>(T item, CompletableFuture<Result<R>> future) {}
+
+    private final CheckedFunction<? super T, ? extends R> mapper;
+    private final Executor executor;
+    private final int parallelism;
+    private final int batchSize;
+    private final SubmissionPublisher<DeadLetter<T>> deadLetters;
+    private final Executor drainer = AsyncResult.defaultExecutor();
+
+    private final Queue<Pending<T, R>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private Flow.Subscription subscription;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    //guarded by wip
+    private int emitted;
+    private boolean terminated;
+
+    /**
+     * Processor mapping on virtual threads with parallelism of available processors and no dead letters.
+     * @param mapper mapper that may throw an exception
+     */
+    public ResultProcessor(CheckedFunction<? super T, ? extends R> mapper) {
+        this(mapper, AsyncResult.defaultExecutor(), Runtime.getRuntime().availableProcessors(),
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2), false);
+    }
+
+    /**
+     * Constructor.
+     * @param mapper mapper that may throw an exception
+     * @param executor executor for mapping and delivery, may be bounded
+     * @param parallelism maximum number of items in flight
+     * @param batchSize upstream request size, at most parallelism
+     * @param deadLetters true to publish failures to {@link #deadLetters()} instead of downstream
+     */
+    public ResultProcessor(CheckedFunction<? super T, ? extends R> mapper, Executor executor, int parallelism,
+            int batchSize, boolean deadLetters) {
+        super(executor, Flow.defaultBufferSize());
+        if (parallelism < 1 || batchSize < 1 || batchSize > parallelism) {
+            throw new IllegalArgumentException("Invalid parallelism or batch size");
+        }
+        this.mapper = mapper;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.deadLetters = deadLetters ? new SubmissionPublisher<>(executor, Flow.defaultBufferSize()) : null;
+    }
+
+    /**
+     * Publisher of failed items, subscribe before items arrive, items without subscribers are dropped.
+     * @return dead letter publisher
+     * @throws IllegalStateException if dead letters are disabled
+     */
+    public Flow.Publisher<DeadLetter<T>> deadLetters() {
+        if (deadLetters == null) {
+            throw new IllegalStateException("Dead letters are disabled");
+        }
+        return deadLetters;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription s) {
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        s.request(parallelism);
+    }
+
+    @Override
+    public void onNext(T item) {
+        var future = CompletableFuture.supplyAsync(() -> Result.<R>runCatching(() -> mapper.apply(item)), executor);
+        pending.offer(new Pending<>(item, future));
+        future.whenComplete((r, t) -> drain());
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        upstreamError = t;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Starts draining on virtual thread, unless it is running, submit may block on full downstream buffers.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainer.execute(this::drainLoop);
+        }
+    }
+
+    /**
+     * Publishes completed items in order, serialized by wip counter.
+     */
+    private void drainLoop() {
+        do {
+            if (terminated) {
+                continue;
+            }
+            Pending<T, R> p;
+            while ((p = pending.peek()) != null && p.future().isDone()) {
+                pending.poll();
+                Result<R> r;
+                try {
+                    r = p.future().join();
+                } catch (CompletionException e) {
+                    //Error thrown by mapper
+                    terminate(e.getCause());
+                    subscription.cancel();
+                    break;
+                }
+                emit(p.item(), r);
+                if (++emitted >= batchSize) {
+                    subscription.request(emitted);
+                    emitted = 0;
+                }
+            }
+            if (!terminated && upstreamDone && pending.isEmpty()) {
+                terminate(upstreamError);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void emit(T item, Result<R> r) {
+        if (deadLetters != null && r instanceof Failure<R> f) {
+            deadLetters.submit(new DeadLetter<>(item, f.exception()));
+        } else {
+            submit(r);
+        }
+    }
+
+    private void terminate(Throwable error) {
+        terminated = true;
+        if (error == null) {
+            close();
+            if (deadLetters != null) {
+                deadLetters.close();
+            }
+        } else {
+            closeExceptionally(error);
+            if (deadLetters != null) {
+                deadLetters.closeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import result.Result.CheckedFunction;
+import result.Result.CheckedSupplier;
+
+/**
+ * Operations over collections of results.
+ */
+public final class Results {
+
+    private Results() {}
+
+    /**
+     * Maps every element with mapper, stops at the first failure.
+     * @param <T> element type
+     * @param <R> mapped type
+     * @param items elements
+     * @param mapper mapper that may throw an exception
+     * @return Success with mapped elements in the input order or the first Failure
+     */
+    public static <T, R> Result<List<R>> traverse(Collection<? extends T> items, CheckedFunction<? super T, ? extends R> mapper) {
+        var list = new ArrayList<R>(items.size());
+        for (T item : items) {
+            try {
+                list.add(mapper.apply(item));
+            } catch (Exception e) {
+                return Failure.of(e);
+            }
+        }
+        return Success.of(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Converts collection of results to result of list, the first Failure wins.
+     * @param <T> result type
+     * @param results results
+     * @return Success with values in the input order or the first Failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<List<T>> sequence(Collection<? extends Result<? extends T>> results) {
+        var list = new ArrayList<T>(results.size());
+        for (Result<? extends T> r : results) {
+            if (r instanceof Success<? extends T> s) {
+                list.add(s.value());
+            } else {
+                return (Result<List<T>>) r;
+            }
+        }
+        return Success.of(Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Parallel version of {@link #traverse(Collection, CheckedFunction)} on common fork-join pool.
+     * The caller takes part in the work, so it is safe to call from common pool threads, for example parallel streams.
+     * @param <T> element type
+     * @param <R> mapped type
+     * @param items elements
+     * @param mapper mapper that may throw an exception
+     * @return Success with mapped elements in the input order or the first observed Failure
+     */
+    public static <T, R> Result<List<R>> traverseParallel(Collection<? extends T> items, CheckedFunction<? super T, ? extends R> mapper) {
+        var pool = ForkJoinPool.commonPool();
+        return traverseParallel(items, mapper, pool, pool.getParallelism());
+    }
+
+    /**
+     * Parallel version of {@link #traverse(Collection, CheckedFunction)}.
+     * Elements are processed by parallelism workers on the given executor, the first Failure stops remaining
+     * workers at the next element and cancels them, cancellation interrupts running mappers only on executors
+     * which interrupt on cancel, fork-join pools do not. Use virtual thread executor and high parallelism for blocking mappers.
+     * @param <T> element type
+     * @param <R> mapped type
+     * @param items elements
+     * @param mapper mapper that may throw an exception
+     * @param executor executor
+     * @param parallelism number of workers
+     * @return Success with mapped elements in the input order or the first observed Failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Result<List<R>> traverseParallel(Collection<? extends T> items, CheckedFunction<? super T, ? extends R> mapper,
+            ExecutorService executor, int parallelism) {
+        T[] array = (T[]) items.toArray();
+        return parallel(array.length, i -> mapper.apply(array[i]), executor, parallelism);
+    }
+
+    /**
+     * Parallel version of {@link #sequence(Collection)} on common fork-join pool.
+     * @param <T> result type
+     * @param results results
+     * @return Success with values in the input order or the first observed Failure
+     */
+    public static <T> Result<List<T>> sequenceParallel(Collection<? extends Result<? extends T>> results) {
+        var pool = ForkJoinPool.commonPool();
+        return sequenceParallel(results, pool, pool.getParallelism());
+    }
+
+    /**
+     * Parallel version of {@link #sequence(Collection)}.
+     * @param <T> result type
+     * @param results results
+     * @param executor executor
+     * @param parallelism number of workers
+     * @return Success with values in the input order or the first observed Failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<List<T>> sequenceParallel(Collection<? extends Result<? extends T>> results,
+            ExecutorService executor, int parallelism) {
+        Result<? extends T>[] array = results.toArray(Result[]::new);
+        return parallel(array.length, i -> {
+            if (array[i] instanceof Success<? extends T> s) {
+                return s.value();
+            }
+            throw new FailedStep(array[i]);
+        }, executor, parallelism);
+    }
+
+    /**
+     * Runs suppliers concurrently on virtual threads and returns the first success, the others are cancelled.
+     * @param <T> result type
+     * @param suppliers alternative suppliers, for example calls to different replicas
+     * @return the first Success or Failure with the first exception and the others as suppressed
+     */
+    @SafeVarargs
+    public static <T> Result<T> firstSuccess(CheckedSupplier<? extends T>... suppliers) {
+        return firstSuccess(List.of(suppliers), Duration.ZERO);
+    }
+
+    /**
+     * Hedged execution: starts the first supplier, then starts the next one after hedge delay without success
+     * or immediately after failure. The first success wins, the other running suppliers are cancelled.
+     * @param <T> result type
+     * @param suppliers alternative suppliers in the order of preference
+     * @param hedgeDelay delay before starting the next supplier, zero starts all at once
+     * @return the first Success or Failure with the first exception and the others as suppressed
+     */
+    public static <T> Result<T> firstSuccess(List<? extends CheckedSupplier<? extends T>> suppliers, Duration hedgeDelay) {
+        int size = suppliers.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("No suppliers");
+        }
+        long delay = hedgeDelay.toNanos();
+        var service = new ExecutorCompletionService<T>(AsyncResult.defaultExecutor());
+        var futures = new ArrayList<Future<T>>(size);
+        var errors = new ArrayList<Exception>(size);
+        int started = 0;
+        try {
+            do {
+                futures.add(service.submit(callable(suppliers.get(started++))));
+            } while (delay == 0 && started < size);
+            while (errors.size() < size) {
+                Future<T> done = started < size ? service.poll(delay, TimeUnit.NANOSECONDS) : service.take();
+                if (done == null) {
+                    //hedge
+                    futures.add(service.submit(callable(suppliers.get(started++))));
+                    continue;
+                }
+                try {
+                    return new Success<>(done.get());
+                } catch (ExecutionException e) {
+                    errors.add(cause(e));
+                    if (started < size && errors.size() == started) {
+                        //nothing is running, do not wait for hedge delay
+                        futures.add(service.submit(callable(suppliers.get(started++))));
+                    }
+                }
+            }
+            var first = errors.get(0);
+            for (int i = 1; i < size; i++) {
+                if (errors.get(i) != first) {
+                    first.addSuppressed(errors.get(i));
+                }
+            }
+            return new Failure<>(first);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    /**
+     * Runs suppliers concurrently on virtual threads, the first failure cancels the others.
+     * @param <T> result type
+     * @param suppliers suppliers
+     * @return Success with values in the input order or the first Failure
+     */
+    @SafeVarargs
+    public static <T> Result<List<T>> allOf(CheckedSupplier<? extends T>... suppliers) {
+        return allOf(List.of(suppliers));
+    }
+
+    /**
+     * Runs suppliers concurrently on virtual threads, the first failure cancels the others.
+     * @param <T> result type
+     * @param suppliers suppliers
+     * @return Success with values in the input order or the first Failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<List<T>> allOf(List<? extends CheckedSupplier<? extends T>> suppliers) {
+        int size = suppliers.size();
+        var service = new ExecutorCompletionService<T>(AsyncResult.defaultExecutor());
+        var index = new HashMap<Future<T>, Integer>(size * 2);
+        Object[] out = new Object[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                index.put(service.submit(callable(suppliers.get(i))), i);
+            }
+            for (int i = 0; i < size; i++) {
+                Future<T> done = service.take();
+                try {
+                    out[index.get(done)] = done.get();
+                } catch (ExecutionException e) {
+                    return new Failure<>(cause(e));
+                }
+            }
+            return new Success<>(Collections.unmodifiableList(Arrays.asList((T[]) out)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } finally {
+            index.keySet().forEach(f -> f.cancel(true));
+        }
+    }
+
+    private static <T> Callable<T> callable(CheckedSupplier<? extends T> supplier) {
+        return supplier::get;
+    }
+
+    /**
+     * Supplier exceptions are not wrapped into Failure in tasks, so losers cancelled late do not fire the interceptor.
+     */
+    private static Exception cause(ExecutionException e) {
+        if (e.getCause() instanceof Error err) {
+            throw err;
+        }
+        return (Exception) e.getCause();
+    }
+
+    /**
+     * Memoizes function in bounded concurrent cache, failures are cached only if policy has failure TTL.
+     * @param <T> key type
+     * @param <R> result type
+     * @param function function that may throw an exception
+     * @param policy cache policy
+     * @return memoized function
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(CheckedFunction<T, R> function, CachePolicy policy) {
+        return new MemoizedFunction<>(function, policy, System::nanoTime);
+    }
+
+    @FunctionalInterface
+    private interface Step<R> {
+        R apply(int index) throws Exception;
+    }
+
+    /**
+     * Existing Failure met by sequence step, published as is.
+     */
+    private static final class FailedStep extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final transient Result<?> failure;
+
+        FailedStep(Result<?> failure) {
+            super(null, null, false, false);
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Parallel engine. Workers claim blocks of indices from shared cursor, so load is balanced,
+     * and write values into output array by index, so input order is kept.
+     * Steps run raw, the first exception is published and only it becomes Failure, remaining workers
+     * stop at the next element and are cancelled, so exceptions of interrupted workers are dropped.
+     * On fork-join pool the caller is one of the workers and then joins the others, join runs
+     * not started workers on the caller thread, so the caller never blocks pool thread waiting for queued work.
+     * Other executors are awaited with managed blocking.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> Result<List<R>> parallel(int size, Step<? extends R> step,
+            ExecutorService executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be positive: " + parallelism);
+        }
+        int workers = Math.max(1, Math.min(parallelism, size));
+        int block = Math.max(1, Math.min(1024, size / (workers * 8)));
+        Object[] out = new Object[size];
+        var cursor = new AtomicInteger();
+        //Exception or existing Failure
+        var failure = new AtomicReference<Object>();
+        var remaining = new AtomicInteger(workers);
+        var done = new CountDownLatch(1);
+
+        Runnable worker = () -> {
+            try {
+                int start;
+                while (failure.get() == null && (start = cursor.getAndAdd(block)) < size) {
+                    int end = Math.min(size, start + block);
+                    for (int i = start; i < end; i++) {
+                        out[i] = step.apply(i);
+                        if (failure.get() != null) {
+                            return;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (failure.compareAndSet(null, e instanceof FailedStep f ? f.failure : e)) {
+                    done.countDown();
+                }
+            } finally {
+                if (remaining.decrementAndGet() == 0) {
+                    done.countDown();
+                }
+            }
+        };
+
+        var futures = new ArrayList<Future<?>>(workers);
+        if (executor instanceof ForkJoinPool pool) {
+            for (int i = 1; i < workers; i++) {
+                futures.add(pool.submit(worker));
+            }
+            try {
+                worker.run();
+            } catch (Error e) {
+                //stop the other workers
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                futures.forEach(f -> ((ForkJoinTask<?>) f).quietlyJoin());
+            }
+        } else {
+            try {
+                for (int i = 0; i < workers; i++) {
+                    futures.add(executor.submit(worker));
+                }
+                await(done);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } finally {
+                if (failure.get() != null) {
+                    futures.forEach(f -> f.cancel(true));
+                }
+            }
+        }
+        var failed = failure.get();
+        if (failed instanceof Exception e) {
+            return Failure.of(e);
+        }
+        if (failed != null) {
+            return (Result<List<R>>) failed;
+        }
+        for (var f : futures) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                //Errors are not caught by Result
+                if (e.getCause() instanceof Error err) {
+                    throw err;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Failure.of(e);
+            }
+        }
+        return Success.of(Collections.unmodifiableList(Arrays.asList((R[]) out)));
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        ForkJoinPool.managedBlock(new ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                latch.await();
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return latch.getCount() == 0;
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import result.Result.CheckedSupplier;
+
+/**
+ * Retry policy for {@link Result#retry(CheckedSupplier, RetryPolicy)} and
+ * {@link AsyncResult#retry(CheckedSupplier, RetryPolicy)}.
+ * <p>
+ * Delay before attempt n+1 is {@code min(maxDelay, initialDelay * multiplier^(n-1))} reduced by random
+ * jitter fraction, jitter 0 means exact delays, jitter 1 means "full jitter" in [0, delay).
+ * <pre>{@code
+ *     var policy = RetryPolicy.of(5)
+ *         .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2), 2)
+ *         .withJitter(0.5)
+ *         .retryOn(IOException.class);
+ * }</pre>
+ *
+ * @param maxAttempts maximum number of attempts including the first one
+ * @param initialDelay delay after the first failed attempt
+ * @param maxDelay maximum delay
+ * @param multiplier backoff multiplier
+ * @param jitter jitter fraction in [0, 1]
+ * @param retryOn predicate which decides if exception is retryable
+ */
+public record RetryPolicy(int maxAttempts, Duration initialDelay, Duration maxDelay, double multiplier, double jitter,
+        Predicate<? super Exception> retryOn) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts should be positive: " + maxAttempts);
+        }
+        if (initialDelay.isNegative() || maxDelay.isNegative() || multiplier < 1 || jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Invalid backoff");
+        }
+    }
+
+    /**
+     * Policy retrying any exception with exponential backoff from 100ms to 10s and jitter 0.5.
+     * @param maxAttempts maximum number of attempts
+     * @return policy
+     */
+    public static RetryPolicy of(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(100), Duration.ofSeconds(10), 2, 0.5, e -> true);
+    }
+
+    public RetryPolicy withBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn);
+    }
+
+    public RetryPolicy withJitter(double jitter) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn);
+    }
+
+    public RetryPolicy retryOn(Predicate<? super Exception> retryOn) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, multiplier, jitter, retryOn);
+    }
+
+    /**
+     * Retries only exceptions of the given types and their subtypes.
+     * @param types exception types
+     * @return policy
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Exception>... types) {
+        var list = List.of(types);
+        return retryOn(e -> list.stream().anyMatch(t -> t.isInstance(e)));
+    }
+
+    /**
+     * Checks if attempt failed with exception should be retried.
+     * @param e exception
+     * @param attempt number of the failed attempt, starting from 1
+     * @return true if should be retried
+     */
+    public boolean shouldRetry(Exception e, int attempt) {
+        return attempt < maxAttempts && retryOn.test(e);
+    }
+
+    /**
+     * Calculates delay after failed attempt.
+     * @param attempt number of the failed attempt, starting from 1
+     * @return delay in nanoseconds
+     */
+    public long delayNanos(int attempt) {
+        double delay = Math.min(maxDelay.toNanos(), initialDelay.toNanos() * Math.pow(multiplier, attempt - 1));
+        return (long) (delay * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Runs supplier with retries sleeping on the current thread between attempts.
+     */
+    <T> Result<T> run(CheckedSupplier<T> supplier) {
+        Exception[] errors = new Exception[maxAttempts - 1];
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new Success<>(supplier.get());
+            } catch (Exception e) {
+                if (!shouldRetry(e, attempt)) {
+                    return failure(e, errors);
+                }
+                errors[attempt - 1] = e;
+                try {
+                    Thread.sleep(Duration.ofNanos(delayNanos(attempt)));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    errors[attempt - 1] = null;
+                    return failure(e, errors);
+                }
+            }
+        }
+    }
+
+    /**
+     * Final failure, earlier attempts are attached as suppressed exceptions.
+     */
+    static <T> Result<T> failure(Exception last, Exception[] earlier) {
+        for (Exception e : earlier) {
+            if (e != null && e != last) {
+                last.addSuppressed(e);
+            }
+        }
+        return new Failure<>(last);
+    }
+}
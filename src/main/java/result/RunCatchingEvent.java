@@ -0,0 +1,30 @@
+package result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Timed JFR event of runCatching supplier or mapCatching mapper execution, recorded if slower than 10 ms by default.
+ */
+@Name("result.RunCatching")
+@Label("Run Catching")
+@Category("Result")
+@Description("Execution of runCatching supplier or mapCatching mapper")
+@Threshold("10 ms")
+class RunCatchingEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Function Class")
+    Class<?> functionClass;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+}
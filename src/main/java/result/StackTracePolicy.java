@@ -0,0 +1,56 @@
+package result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Stack trace trimming of exceptions retained for a long time, see {@link Failure#trim(int, int)}.
+ * <p>
+ * Note that JVM captures stack when exception is constructed, so trimming bounds stack
+ * which is kept and printed, but can not avoid capturing cost. For expected business exceptions
+ * on hot paths use {@link StacklessException}, see FailureBenchmark.
+ */
+final class StackTracePolicy {
+
+    private static final StackTraceElement[] EMPTY = new StackTraceElement[0];
+
+    private StackTracePolicy() {}
+
+    /**
+     * Trims throwable, its cause chain and suppressed exceptions in place.
+     * Throwable itself and its first maxCauses causes keep at most maxFrames frames,
+     * deeper causes become stackless. Suppressed exceptions count one level below their owner.
+     * @param t throwable
+     * @param maxFrames maximum frames to keep
+     * @param maxCauses number of causes to keep frames for
+     */
+    static void trim(Throwable t, int maxFrames, int maxCauses) {
+        if (maxFrames < 0) {
+            throw new IllegalArgumentException("Negative frames limit: " + maxFrames);
+        }
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        trim(t, maxFrames, maxCauses, seen);
+    }
+
+    private static void trim(Throwable t, int maxFrames, int maxCauses, Set<Throwable> seen) {
+        for (int depth = 0; t != null && seen.add(t); t = t.getCause(), depth++) {
+            limit(t, depth <= maxCauses ? maxFrames : 0);
+            for (Throwable s : t.getSuppressed()) {
+                trim(s, maxFrames, maxCauses - depth - 1, seen);
+            }
+        }
+    }
+
+    private static void limit(Throwable t, int maxFrames) {
+        if (maxFrames == 0) {
+            t.setStackTrace(EMPTY);
+        } else {
+            StackTraceElement[] stack = t.getStackTrace();
+            if (stack.length > maxFrames) {
+                t.setStackTrace(Arrays.copyOf(stack, maxFrames));
+            }
+        }
+    }
+}
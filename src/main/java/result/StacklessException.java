@@ -0,0 +1,30 @@
+package result;
+
+/**
+ * Base class for expected (business) exceptions which do not capture stack trace.
+ * <p>
+ * Filling stack trace is the main cost of failure, it grows with call stack depth.
+ * Subclasses of this exception skip it, so failure costs about the same as success.
+ * Suppressed exceptions are enabled, so the exception should not be shared.
+ * <pre>{@code
+ *     class OrderNotFound extends StacklessException {
+ *         OrderNotFound(String id) {
+ *             super("Order not found: " + id);
+ *         }
+ *     }
+ * }</pre>
+ * See also {@link Result#failure(String)}.
+ *
+ */
+public class StacklessException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException(String message) {
+        super(message, null, true, false);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
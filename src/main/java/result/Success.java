@@ -1,5 +1,6 @@
 package result;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -11,10 +12,63 @@ import java.util.function.Function;
  */
 public record Success<T>(T value) implements Result<T> {
 
+    /**
+     * Shared instances for common values, created on first use.
+     */
+    private static final class Cache {
+        static final int LOW = -128;
+        static final int HIGH = 127;
+        static final Success<?> NULL = new Success<>(null);
+        static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+        static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+        static final Success<?> EMPTY = new Success<>(Optional.empty());
+        static final Success<?>[] INTS = new Success<?>[HIGH - LOW + 1];
+        static final Success<?>[] LONGS = new Success<?>[HIGH - LOW + 1];
+
+        static {
+            for (int i = 0; i < INTS.length; i++) {
+                INTS[i] = new Success<>(Integer.valueOf(i + LOW));
+                LONGS[i] = new Success<>(Long.valueOf(i + LOW));
+            }
+        }
+    }
+
+    /**
+     * Factory method, returns shared instance for null, Boolean, Optional.empty() and Integer/Long in [-128, 127].
+     * Results are compared with equals, so shared instances are not observable except by identity.
+     * @param <T> value type
+     * @param t value
+     * @return Success
+     */
+    @SuppressWarnings("unchecked")
     public static <T> Success<T> of(T t) {
+        if (t == null) {
+            return (Success<T>) Cache.NULL;
+        }
+        if (t instanceof Boolean b) {
+            return (Success<T>) (b ? Cache.TRUE : Cache.FALSE);
+        }
+        if (t instanceof Integer i && i >= Cache.LOW && i <= Cache.HIGH) {
+            return (Success<T>) Cache.INTS[i - Cache.LOW];
+        }
+        if (t instanceof Long l && l >= Cache.LOW && l <= Cache.HIGH) {
+            return (Success<T>) Cache.LONGS[(int) (l - Cache.LOW)];
+        }
+        if (t instanceof Optional<?> o && o.isEmpty()) {
+            return (Success<T>) Cache.EMPTY;
+        }
         return new Success<>(t);
     }
 
+    /**
+     * Shared {@code Success<Void>} with null value.
+     * @return unit result
+     */
+    @SuppressWarnings("unchecked")
+    static Success<Void> unit() {
+        return (Success<Void>) Cache.NULL;
+    }
+
     @Override
     public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Exception, ? extends R> onError) {
         return onSuccess.apply(value);
@@ -0,0 +1,225 @@
+package result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Validation result with errors as plain values.
+ * <p>
+ * Unlike Result, errors are not exceptions, so no stack trace is captured, and {@link #map2},
+ * {@link #map3}, {@link #map4}, {@link #sequence} accumulate errors of all inputs instead of stopping
+ * at the first one. {@link #toResult()} converts to Result with single {@link ValidationException}.
+ * <pre>{@code
+ *     Validated<String, User> user = Validated.map3(
+ *         validName(name), validEmail(email), validAge(age),
+ *         User::new);
+ * }</pre>
+ *
+ * @param <E> error type
+ * @param <T> value type
+ */
+public sealed interface Validated<E, T> permits Validated.Valid, Validated.Invalid {
+
+    record Valid<E, T>(T value) implements Validated<E, T> {}
+
+    /**
+     * Invalid value.
+     * @param errors non-empty list of non-null errors, stored as unmodifiable copy
+     */
+    record Invalid<E, T>(List<E> errors) implements Validated<E, T> {
+        public Invalid {
+            if (errors.isEmpty()) {
+                throw new IllegalArgumentException("Errors should not be empty");
+            }
+            errors = List.copyOf(errors);
+        }
+    }
+
+    @FunctionalInterface
+    interface Function3<A, B, C, R> {R apply(A a, B b, C c);}
+
+    @FunctionalInterface
+    interface Function4<A, B, C, D, R> {R apply(A a, B b, C c, D d);}
+
+    static <E, T> Validated<E, T> valid(T value) {
+        return new Valid<>(value);
+    }
+
+    static <E, T> Validated<E, T> invalid(E error) {
+        return new Invalid<>(List.of(error));
+    }
+
+    static <E, T> Validated<E, T> invalid(List<E> errors) {
+        return new Invalid<>(errors);
+    }
+
+    /**
+     * Validates value with predicate.
+     * @param <E> error type
+     * @param <T> value type
+     * @param value value
+     * @param predicate validation rule
+     * @param error error if rule is violated
+     * @return Valid or Invalid with the error
+     */
+    static <E, T> Validated<E, T> of(T value, Predicate<? super T> predicate, E error) {
+        return predicate.test(value) ? new Valid<>(value) : invalid(error);
+    }
+
+    /**
+     * Converts Result to Validated.
+     * @param <E> error type
+     * @param <T> value type
+     * @param result result
+     * @param toError exception to error mapper
+     * @return Valid for Success or Invalid for Failure
+     */
+    static <E, T> Validated<E, T> fromResult(Result<T> result, Function<? super Exception, ? extends E> toError) {
+        if (result instanceof Success<T> s) {
+            return new Valid<>(s.value());
+        }
+        return invalid(toError.apply(result.exceptionOrNull()));
+    }
+
+    @SuppressWarnings("unchecked")
+    default <R> Validated<E, R> map(Function<? super T, ? extends R> mapper) {
+        if (this instanceof Valid<E, T> v) {
+            return new Valid<>(mapper.apply(v.value()));
+        }
+        return (Validated<E, R>) this;
+    }
+
+    /**
+     * Dependent validation, stops at the first Invalid.
+     * @param <R> new value type
+     * @param mapper mapper
+     * @return result of mapper or this Invalid
+     */
+    @SuppressWarnings("unchecked")
+    default <R> Validated<E, R> flatMap(Function<? super T, ? extends Validated<E, ? extends R>> mapper) {
+        if (this instanceof Valid<E, T> v) {
+            return (Validated<E, R>) mapper.apply(v.value());
+        }
+        return (Validated<E, R>) this;
+    }
+
+    /**
+     * Checks one more rule on valid value.
+     * @param predicate validation rule
+     * @param error error if rule is violated
+     * @return this or Invalid with the error
+     */
+    default Validated<E, T> ensure(Predicate<? super T> predicate, E error) {
+        if (this instanceof Valid<E, T> v && !predicate.test(v.value())) {
+            return invalid(error);
+        }
+        return this;
+    }
+
+    default boolean isValid() {
+        return this instanceof Valid;
+    }
+
+    default T getOrElse(T defaultValue) {
+        return this instanceof Valid<E, T> v ? v.value() : defaultValue;
+    }
+
+    /**
+     * Errors of this validation.
+     * @return errors or empty list if valid
+     */
+    default List<E> errors() {
+        return this instanceof Invalid<E, T> i ? i.errors() : List.of();
+    }
+
+    default <R> R fold(Function<? super T, ? extends R> onValid, Function<? super List<E>, ? extends R> onInvalid) {
+        return this instanceof Valid<E, T> v ? onValid.apply(v.value()) : onInvalid.apply(errors());
+    }
+
+    /**
+     * Converts to Result, all errors are summarized in single stackless {@link ValidationException}.
+     * @return Success or Failure with ValidationException
+     */
+    default Result<T> toResult() {
+        if (this instanceof Valid<E, T> v) {
+            return new Success<>(v.value());
+        }
+        return new Failure<>(new ValidationException(errors()));
+    }
+
+    static <E, A, B, R> Validated<E, R> map2(Validated<E, ? extends A> a, Validated<E, ? extends B> b,
+            BiFunction<? super A, ? super B, ? extends R> mapper) {
+        if (a instanceof Valid<E, ? extends A> va && b instanceof Valid<E, ? extends B> vb) {
+            return new Valid<>(mapper.apply(va.value(), vb.value()));
+        }
+        return new Invalid<>(concat(a, b));
+    }
+
+    static <E, A, B, C, R> Validated<E, R> map3(Validated<E, ? extends A> a, Validated<E, ? extends B> b,
+            Validated<E, ? extends C> c, Function3<? super A, ? super B, ? super C, ? extends R> mapper) {
+        if (a instanceof Valid<E, ? extends A> va && b instanceof Valid<E, ? extends B> vb
+                && c instanceof Valid<E, ? extends C> vc) {
+            return new Valid<>(mapper.apply(va.value(), vb.value(), vc.value()));
+        }
+        return new Invalid<>(concat(a, b, c));
+    }
+
+    static <E, A, B, C, D, R> Validated<E, R> map4(Validated<E, ? extends A> a, Validated<E, ? extends B> b,
+            Validated<E, ? extends C> c, Validated<E, ? extends D> d,
+            Function4<? super A, ? super B, ? super C, ? super D, ? extends R> mapper) {
+        if (a instanceof Valid<E, ? extends A> va && b instanceof Valid<E, ? extends B> vb
+                && c instanceof Valid<E, ? extends C> vc && d instanceof Valid<E, ? extends D> vd) {
+            return new Valid<>(mapper.apply(va.value(), vb.value(), vc.value(), vd.value()));
+        }
+        return new Invalid<>(concat(a, b, c, d));
+    }
+
+    /**
+     * Converts collection of validations to validation of list, errors of all elements are accumulated.
+     * @param <E> error type
+     * @param <T> value type
+     * @param items validations
+     * @return Valid with values in the input order or Invalid with all errors
+     */
+    static <E, T> Validated<E, List<T>> sequence(Collection<? extends Validated<E, ? extends T>> items) {
+        List<T> values = new ArrayList<>(items.size());
+        List<E> errors = null;
+        for (Validated<E, ? extends T> v : items) {
+            if (v instanceof Valid<E, ? extends T> valid) {
+                values.add(valid.value());
+            } else {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.addAll(v.errors());
+            }
+        }
+        return errors == null ? new Valid<>(Collections.unmodifiableList(values)) : new Invalid<>(errors);
+    }
+
+    @SafeVarargs
+    private static <E> List<E> concat(Validated<E, ?>... items) {
+        Invalid<E, ?> single = null;
+        int size = 0;
+        for (Validated<E, ?> v : items) {
+            if (v instanceof Invalid<E, ?> i) {
+                single = size == 0 ? i : null;
+                size += i.errors().size();
+            }
+        }
+        if (single != null) {
+            //one invalid input, share its list, Invalid does not copy immutable list
+            return single.errors();
+        }
+        List<E> errors = new ArrayList<>(size);
+        for (Validated<E, ?> v : items) {
+            errors.addAll(v.errors());
+        }
+        return errors;
+    }
+}
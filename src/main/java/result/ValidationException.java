@@ -0,0 +1,46 @@
+package result;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+/**
+ * Summary of {@link Validated} errors, see {@link Validated#toResult()}.
+ * <p>
+ * Stackless, message is built on demand. Errors may be not serializable, so only the message
+ * is serialized, deserialized exception has empty errors list.
+ */
+public class ValidationException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<?> errors;
+    //set on serialization only
+    private String message;
+
+    public ValidationException(List<?> errors) {
+        super(null, null, false, false);
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<?> getErrors() {
+        return errors == null ? List.of() : errors;
+    }
+
+    @Override
+    public String getMessage() {
+        if (errors == null) {
+            return message;
+        }
+        var sb = new StringBuilder().append(errors.size()).append(errors.size() == 1 ? " validation error: " : " validation errors: ");
+        for (int i = 0; i < errors.size(); i++) {
+            sb.append(i == 0 ? "" : "; ").append(errors.get(i));
+        }
+        return sb.toString();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        message = getMessage();
+        out.defaultWriteObject();
+    }
+}
@@ -0,0 +1,102 @@
+package result;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import result.Result.CheckedConsumer;
+import result.Result.CheckedFunction;
+
+/**
+ * Allocation regression tests for Result combinators.
+ * Combinator should allocate at most result object, identity cases should not allocate at all.
+ */
+public class AllocationTest {
+
+    static final int ITERATIONS = 100_000;
+    static final long ONE_OBJECT = 24;
+    static final long NOTHING = 0;
+
+    final Result<Integer> success = Success.of(1);
+    final Result<Integer> failure = new Failure<>(new IOException());
+
+    final Function<Integer, Integer> inc = i -> i + 1;
+    final Function<Integer, Result<Integer>> incResult = i -> success;
+    final CheckedFunction<Integer, Integer> incCatching = i -> i + 1;
+    final CheckedFunction<Exception, Integer> recoverCatching = e -> 0;
+    final Predicate<Integer> positive = i -> i > 0;
+    final Predicate<Integer> negative = i -> i < 0;
+    final CheckedConsumer<Integer> noop = i -> {};
+    final Function<Exception, Integer> zero = e -> 0;
+
+    Object sink;
+
+    @Before
+    public void checkSupported() {
+        Assume.assumeTrue(threadBean().isThreadAllocatedMemorySupported());
+        threadBean().setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        assertAllocates(ONE_OBJECT, "map", () -> sink = success.map(inc));
+        assertAllocates(NOTHING, "flatMap", () -> sink = success.flatMap(incResult));
+        assertAllocates(ONE_OBJECT, "mapCatching", () -> sink = success.mapCatching(incCatching));
+        assertAllocates(NOTHING, "filter pass", () -> sink = success.filter(positive));
+        assertAllocates(ONE_OBJECT, "filter reject", () -> sink = success.filter(negative));
+        assertAllocates(NOTHING, "onSuccessCatching", () -> sink = success.onSuccessCatching(noop));
+        assertAllocates(NOTHING, "recover", () -> sink = success.recover(zero));
+        assertAllocates(NOTHING, "recoverCatching", () -> sink = success.recoverCatching(recoverCatching));
+        assertAllocates(NOTHING, "isSuccess", () -> sink = success.isSuccess());
+        assertAllocates(NOTHING, "getOrNull", () -> sink = success.getOrNull());
+        assertAllocates(NOTHING, "getOrElse", () -> sink = success.getOrElse(zero));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        assertAllocates(NOTHING, "map", () -> sink = failure.map(inc));
+        assertAllocates(NOTHING, "flatMap", () -> sink = failure.flatMap(incResult));
+        assertAllocates(NOTHING, "mapCatching", () -> sink = failure.mapCatching(incCatching));
+        assertAllocates(NOTHING, "filter", () -> sink = failure.filter(positive));
+        assertAllocates(NOTHING, "onSuccessCatching", () -> sink = failure.onSuccessCatching(noop));
+        assertAllocates(ONE_OBJECT, "recover", () -> sink = failure.recover(zero));
+        assertAllocates(ONE_OBJECT, "recoverCatching", () -> sink = failure.recoverCatching(recoverCatching));
+        assertAllocates(NOTHING, "isSuccess", () -> sink = failure.isSuccess());
+        assertAllocates(NOTHING, "getOrNull", () -> sink = failure.getOrNull());
+        assertAllocates(NOTHING, "getOrElse", () -> sink = failure.getOrElse(zero));
+    }
+
+    @Test
+    public void testCachedFactories() throws Exception {
+        final Result.CheckedRunnable runnable = () -> {};
+        final Function<Integer, Result<Boolean>> lifted = Result.lift(i -> i > 0);
+        assertAllocates(NOTHING, "runCatching runnable", () -> sink = Result.runCatching(runnable));
+        assertAllocates(NOTHING, "lift boolean", () -> sink = lifted.apply(1));
+        assertAllocates(NOTHING, "Success.of small int", () -> sink = Success.of((int) (System.nanoTime() & 0x7f)));
+    }
+
+    void assertAllocates(long maxBytesPerOp, String name, Runnable op) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            op.run();
+        }
+        var bean = threadBean();
+        long tid = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ITERATIONS; i++) {
+            op.run();
+        }
+        long perOp = (bean.getThreadAllocatedBytes(tid) - before) / ITERATIONS;
+        assertTrue(name + " allocates " + perOp + " bytes per operation", perOp <= maxBytesPerOp);
+    }
+
+    static com.sun.management.ThreadMXBean threadBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+}
@@ -0,0 +1,203 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import result.AsyncInterceptor.OverflowPolicy;
+
+public class AsyncInterceptorTest {
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testDeliversAll() throws Exception {
+        var received = new ConcurrentLinkedQueue<Exception>();
+        var async = AsyncInterceptor.of(received::add);
+        Failure.withInterceptor(async);
+
+        int threads = 8;
+        int perThread = 1000;
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Result.runCatching(() -> {throw new IOException();});
+                    }
+                });
+            }
+        }
+        async.close();
+        assertEquals(threads * perThread, received.size() + async.dropped());
+        assertEquals(0, async.dropped());
+    }
+
+    @Test
+    public void testHandlerErrorKeepsDraining() throws Exception {
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(1024, 1, OverflowPolicy.BLOCK, 1, Thread.ofVirtual().factory(), batch -> {
+            if (total.getAndAdd(batch.size()) == 0) {
+                throw new AssertionError("handler bug");
+            }
+        });
+        for (int i = 0; i < 10; i++) {
+            async.accept(new IOException());
+        }
+        async.close();
+        assertEquals(10, total.get());
+        assertEquals(1, async.handlerErrors());
+    }
+
+    @Test(timeout = 10_000)
+    public void testNullDoesNotStopDraining() throws Exception {
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(4, 1, OverflowPolicy.DROP, 1, Thread.ofVirtual().factory(),
+                batch -> total.addAndGet(batch.size()));
+        async.accept(null);
+        for (int i = 0; i < 100; i++) {
+            async.accept(new IOException());
+            while (async.size() > 0) {
+                Thread.sleep(1);
+            }
+        }
+        async.close();
+        assertEquals(100, total.get());
+        assertEquals(0, async.dropped());
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        var batches = new ConcurrentLinkedQueue<Integer>();
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(1024, 10, OverflowPolicy.BLOCK, 1, Thread.ofVirtual().factory(), batch -> {
+            batches.add(batch.size());
+            total.addAndGet(batch.size());
+        });
+        for (int i = 0; i < 500; i++) {
+            async.accept(new IOException());
+        }
+        async.close();
+        assertEquals(500, total.get());
+        assertTrue(batches.stream().allMatch(n -> n <= 10));
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        var release = new CountDownLatch(1);
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(16, 1, OverflowPolicy.DROP, 1, Thread.ofVirtual().factory(), batch -> {
+            await(release);
+            total.addAndGet(batch.size());
+        });
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            async.accept(new IOException());
+        }
+        assertTrue("Producer must not block", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(async.dropped() > 900);
+        release.countDown();
+        async.close();
+        assertEquals(1000, total.get() + async.dropped());
+    }
+
+    @Test
+    public void testSample() throws Exception {
+        var release = new CountDownLatch(1);
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(1024, 1, OverflowPolicy.SAMPLE, 10, Thread.ofVirtual().factory(), batch -> {
+            await(release);
+            total.addAndGet(batch.size());
+        });
+        for (int i = 0; i < 1000; i++) {
+            async.accept(new IOException());
+        }
+        //first half of the buffer is accepted fully, then every 10th
+        int accepted = 1000 - (int) async.dropped();
+        assertTrue(accepted > 512 && accepted < 700);
+        release.countDown();
+        async.close();
+        assertEquals(accepted, total.get());
+    }
+
+    @Test
+    public void testBlockDoesNotDrop() throws Exception {
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(4, 2, OverflowPolicy.BLOCK, 1, Thread.ofVirtual().factory(), batch -> {
+            sleep(1);
+            total.addAndGet(batch.size());
+        });
+        for (int i = 0; i < 100; i++) {
+            async.accept(new IOException());
+        }
+        async.close();
+        assertEquals(100, total.get());
+        assertEquals(0, async.dropped());
+    }
+
+    @Test
+    public void testSynchronousPolicyComposition() throws Exception {
+        var logged = new ConcurrentLinkedQueue<Exception>();
+        var async = AsyncInterceptor.of(logged::add);
+        Consumer<Exception> banNPE = e -> {
+            if (e instanceof NullPointerException npe) {
+                throw npe;
+            }
+        };
+        Failure.withInterceptor(banNPE.andThen(async));
+        try {
+            Failure.of(new NullPointerException());
+            fail("Should throw NPE");
+        } catch (NullPointerException npe) {
+            //ok
+        }
+        Failure.of(new IOException());
+        async.close();
+        assertEquals(1, logged.size());
+        assertTrue(logged.peek() instanceof IOException);
+    }
+
+    @Test
+    public void testHandlerErrorsDoNotStopDraining() throws Exception {
+        var total = new AtomicInteger();
+        var async = new AsyncInterceptor(64, 1, OverflowPolicy.BLOCK, 1, Thread.ofVirtual().factory(), (List<Exception> batch) -> {
+            if (total.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException();
+            }
+        });
+        for (int i = 0; i < 10; i++) {
+            async.accept(new IOException());
+        }
+        async.close();
+        assertEquals(10, total.get());
+        assertEquals(5, async.handlerErrors());
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncResultTest {
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        var r = AsyncResult.runCatchingAsync(() -> 2)
+                .map(i -> i * 3)
+                .mapCatching(i -> i + 1)
+                .flatMap(i -> AsyncResult.runCatchingAsync(() -> "v" + i))
+                .await();
+        assertEquals(Success.of("v7"), r);
+    }
+
+    @Test
+    public void testFailureInterceptedOnce() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        var r = AsyncResult.<Integer>runCatchingAsync(() -> {throw new IOException("io");})
+                .map(i -> i * 3)
+                .mapCatching(i -> i + 1)
+                .flatMap(i -> AsyncResult.runCatchingAsync(() -> "v" + i))
+                .filter(s -> !s.isEmpty())
+                .await();
+        assertTrue(r.exceptionOrNull() instanceof IOException);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testRecover() throws Exception {
+        var r = AsyncResult.<Integer>runCatchingAsync(() -> {throw new IOException();})
+                .recover(e -> -1)
+                .await();
+        assertEquals(Success.of(-1), r);
+    }
+
+    @Test
+    public void testNonCatchingStepIsUnwrapped() throws Exception {
+        var r = AsyncResult.runCatchingAsync(() -> 1)
+                .map(i -> {throw new IllegalStateException();})
+                .await();
+        assertTrue(r.exceptionOrNull() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFromStage() throws Exception {
+        var failed = AsyncResult.from(CompletableFuture.failedFuture(new IOException())).await();
+        assertTrue(failed.exceptionOrNull() instanceof IOException);
+        var ok = AsyncResult.from(CompletableFuture.completedFuture(1)).await();
+        assertEquals(Success.of(1), ok);
+    }
+
+    @Test
+    public void testAwaitTimeout() throws Exception {
+        var r = AsyncResult.runCatchingAsync(() -> {
+            Thread.sleep(10_000);
+            return 1;
+        }).await(Duration.ofMillis(10));
+        assertTrue(r.exceptionOrNull() instanceof TimeoutException);
+    }
+
+    @Test
+    public void testManyConcurrentCalls() throws Exception {
+        int n = 20_000;
+        var results = new ArrayList<AsyncResult<Integer>>(n);
+        for (int i = 0; i < n; i++) {
+            int x = i;
+            results.add(AsyncResult.runCatchingAsync(() -> {
+                Thread.sleep(100);
+                return x;
+            }));
+        }
+        long sum = 0;
+        for (var r : results) {
+            sum += r.await().getOrThrow();
+        }
+        assertEquals((long) n * (n - 1) / 2, sum);
+    }
+}
@@ -0,0 +1,155 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import result.CircuitBreaker.State;
+
+public class CircuitBreakerTest {
+
+    final AtomicLong clock = new AtomicLong();
+    final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, Duration.ofSeconds(10), Duration.ofSeconds(5), clock::get);
+
+    Result<Integer> fail() {
+        return breaker.runCatching(() -> {throw new IOException();});
+    }
+
+    @Test
+    public void testOpens() throws Exception {
+        assertEquals(Success.of(1), breaker.runCatching(() -> 1));
+        assertEquals(Success.of(2), breaker.runCatching(() -> 2));
+        fail();
+        assertEquals(State.CLOSED, breaker.state());
+        fail();
+        assertEquals(State.OPEN, breaker.state());
+        assertEquals(0.5, breaker.failureRate(), 0);
+
+        var calls = new AtomicInteger();
+        var rejected = breaker.runCatching(calls::incrementAndGet);
+        assertTrue(rejected.exceptionOrNull() instanceof CircuitBreakerOpenException);
+        assertEquals(0, rejected.exceptionOrNull().getStackTrace().length);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testMinimumCalls() throws Exception {
+        fail();
+        fail();
+        fail();
+        assertEquals(State.CLOSED, breaker.state());
+        fail();
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void testHalfOpen() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(State.OPEN, breaker.state());
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        //trial fails
+        assertTrue(fail().exceptionOrNull() instanceof IOException);
+        assertEquals(State.OPEN, breaker.state());
+        assertTrue(breaker.runCatching(() -> 1).exceptionOrNull() instanceof CircuitBreakerOpenException);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        //trial succeeds
+        assertEquals(Success.of(1), breaker.runCatching(() -> 1));
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(0, breaker.failureRate(), 0);
+    }
+
+    @Test
+    public void testSlidingWindow() throws Exception {
+        fail();
+        fail();
+        fail();
+        //old failures leave the window
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        fail();
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(1, breaker.failureRate(), 0);
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        breaker.reset();
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(Success.of(1), breaker.runCatching(() -> 1));
+    }
+
+    @Test
+    public void testConcurrentCounts() throws Exception {
+        var cb = new CircuitBreaker(0.5, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        int threads = 32;
+        int perThread = 10_000;
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        int x = i;
+                        cb.runCatching(() -> {
+                            if (x % 10 == 0) {
+                                throw new IOException();
+                            }
+                            return x;
+                        });
+                    }
+                });
+            }
+        }
+        assertEquals(State.CLOSED, cb.state());
+        assertEquals(0.1, cb.failureRate(), 0.01);
+    }
+
+    @Test
+    public void testSingleTrialCall() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        int threads = 32;
+        var start = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var invoked = new AtomicInteger();
+        var rejected = new AtomicInteger();
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    var r = breaker.runCatching(() -> {
+                        invoked.incrementAndGet();
+                        release.await();
+                        return 1;
+                    });
+                    if (r.isFailure()) {
+                        rejected.incrementAndGet();
+                        if (rejected.get() == threads - 1) {
+                            release.countDown();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+        assertEquals(1, invoked.get());
+        assertEquals(threads - 1, rejected.get());
+        assertEquals(State.CLOSED, breaker.state());
+    }
+}
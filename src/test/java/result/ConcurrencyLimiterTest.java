@@ -0,0 +1,107 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+    final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testRejects() throws Exception {
+        var limiter = new ConcurrencyLimiter(2, 1, 2, Duration.ofSeconds(1), 0.5);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(2);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> limiter.runCatching(() -> {
+                    started.countDown();
+                    release.await();
+                    return 1;
+                }));
+            }
+            started.await();
+            assertEquals(2, limiter.inFlight());
+            var r = limiter.runCatching(() -> 1);
+            assertTrue(r.exceptionOrNull() instanceof LimitExceededException);
+            assertEquals(0, r.exceptionOrNull().getStackTrace().length);
+            assertEquals(1, limiter.rejected());
+            release.countDown();
+        }
+        assertEquals(0, limiter.inFlight());
+        assertEquals(Success.of(1), limiter.runCatching(() -> 1));
+    }
+
+    @Test
+    public void testAimd() throws Exception {
+        var limiter = new ConcurrencyLimiter(10, 2, 12, Duration.ofMillis(100), 0.5, clock::get);
+        //slow call halves the limit
+        limiter.runCatching(() -> clock.addAndGet(Duration.ofMillis(200).toNanos()));
+        assertEquals(5, limiter.limit());
+        limiter.runCatching(() -> clock.addAndGet(Duration.ofMillis(200).toNanos()));
+        limiter.runCatching(() -> clock.addAndGet(Duration.ofMillis(200).toNanos()));
+        assertEquals(2, limiter.limit());
+        //fast call using half of the limit grows it
+        limiter.runCatching(() -> 1);
+        assertEquals(3, limiter.limit());
+        //fast call with unused limit does not grow it
+        limiter.runCatching(() -> 1);
+        assertEquals(3, limiter.limit());
+        limiter.runCatching(() -> limiter.runCatching(() -> 1));
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    public void testSpikeDecreasesOnce() throws Exception {
+        var limiter = new ConcurrencyLimiter(16, 1, 16, Duration.ofMillis(100), 0.5, clock::get);
+        var started = new CountDownLatch(8);
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> limiter.runCatching(() -> {
+                    started.countDown();
+                    release.await();
+                    return 1;
+                }));
+            }
+            started.await();
+            clock.addAndGet(Duration.ofMillis(200).toNanos());
+            release.countDown();
+        }
+        assertEquals(8, limiter.limit());
+        //the next slow call started after the decrease
+        limiter.runCatching(() -> clock.addAndGet(Duration.ofMillis(200).toNanos()));
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    public void testConcurrentNeverExceedsLimit() throws Exception {
+        var limiter = ConcurrencyLimiter.of(16, Duration.ofSeconds(1));
+        var current = new AtomicInteger();
+        var violations = new AtomicInteger();
+        var admitted = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.execute(() -> limiter.runCatching(() -> {
+                    if (current.incrementAndGet() > 16) {
+                        violations.incrementAndGet();
+                    }
+                    admitted.incrementAndGet();
+                    Thread.sleep(1);
+                    current.decrementAndGet();
+                    return 1;
+                }));
+            }
+        }
+        assertEquals(0, violations.get());
+        assertEquals(10_000, admitted.get() + limiter.rejected());
+        assertEquals(0, limiter.inFlight());
+    }
+}
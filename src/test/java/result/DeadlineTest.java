@@ -0,0 +1,74 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class DeadlineTest {
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testInTime() throws Exception {
+        assertEquals(Success.of(1), Result.runCatching(() -> 1, Duration.ofSeconds(5)));
+        var r = Result.runCatching(() -> {throw new IOException("io");}, Duration.ofSeconds(5));
+        assertEquals("io", r.exceptionOrNull().getMessage());
+    }
+
+    @Test
+    public void testTimeoutInterrupts() throws Exception {
+        var interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+        var r = Result.runCatching(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1;
+        }, Duration.ofMillis(50));
+        assertTrue(r.exceptionOrNull() instanceof TimeoutException);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSharedDeadline() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        var steps = new AtomicInteger();
+        var deadline = Deadline.after(Duration.ofMillis(100));
+        var r = deadline.runCatching(() -> {
+                    steps.incrementAndGet();
+                    Thread.sleep(60);
+                    return 1;
+                })
+                .flatMap(deadline.lift(i -> {
+                    steps.incrementAndGet();
+                    Thread.sleep(60);
+                    return i + 1;
+                }))
+                .flatMap(deadline.lift(i -> {
+                    steps.incrementAndGet();
+                    return i + 1;
+                }));
+        assertTrue(r.exceptionOrNull() instanceof TimeoutException);
+        assertEquals(2, steps.get());
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        Thread.sleep(100);
+        assertEquals(1, count.get());
+    }
+}
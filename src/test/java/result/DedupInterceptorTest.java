@@ -0,0 +1,183 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class DedupInterceptorTest {
+
+    final AtomicLong clock = new AtomicLong();
+    final List<Exception> firsts = new CopyOnWriteArrayList<>();
+    final List<DedupInterceptor.Report> reports = new CopyOnWriteArrayList<>();
+
+    /**
+     * Interceptor with the single site frame, so all failures passed through {@link #intercept} share the site.
+     */
+    DedupInterceptor dedup(int capacity) {
+        return new DedupInterceptor(1, capacity, Duration.ofSeconds(10), firsts::add, reports::add, clock::get);
+    }
+
+    static void intercept(DedupInterceptor dedup, Exception e) {
+        dedup.accept(e);
+    }
+
+    @Test
+    public void testFirstOccurrenceAndCounts() {
+        var dedup = dedup(16);
+        for (int i = 0; i < 100; i++) {
+            intercept(dedup, new NullPointerException("npe " + i));
+            intercept(dedup, new IOException("io " + i));
+        }
+        assertEquals(2, firsts.size());
+        assertEquals("npe 0", firsts.get(0).getMessage());
+        assertTrue(reports.isEmpty());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        intercept(dedup, new NullPointerException());
+        assertEquals(1, reports.size());
+        var report = reports.get(0);
+        assertEquals(2, report.entries().size());
+        assertEquals(201, report.total());
+        assertEquals(0, report.untracked());
+        assertEquals(2, firsts.size());
+    }
+
+    @Test
+    public void testSameClassDifferentSite() {
+        var dedup = dedup(16);
+        dedup.accept(new IllegalStateException("a"));
+        dedup.accept(new IllegalStateException("b"));
+        assertEquals(2, firsts.size());
+    }
+
+    @Test
+    public void testExceptionClassOnly() {
+        var dedup = new DedupInterceptor(0, 16, Duration.ofSeconds(10), firsts::add, reports::add, clock::get);
+        dedup.accept(new IllegalStateException("a"));
+        dedup.accept(new IllegalStateException("b"));
+        dedup.accept(new IOException());
+        assertEquals(2, firsts.size());
+    }
+
+    @Test
+    public void testInterceptionSite() {
+        var dedup = new DedupInterceptor(3, 16, Duration.ofSeconds(10), firsts::add, reports::add, clock::get);
+        Failure.withInterceptor(dedup);
+        try {
+            for (int i = 0; i < 10; i++) {
+                //stack of the throw site differs, interception site is the same
+                int depth = i;
+                Result.runCatching(() -> deep(depth));
+            }
+            Result.runCatching(() -> deep(0));
+        } finally {
+            Failure.withInterceptor(null);
+        }
+        assertEquals(2, firsts.size());
+        dedup.flush();
+        assertEquals(11, reports.get(0).total());
+        assertEquals(10, reports.get(0).entries().get(0).count());
+    }
+
+    static int deep(int depth) throws IOException {
+        if (depth == 0) {
+            throw new IOException();
+        }
+        return deep(depth - 1);
+    }
+
+    @Test
+    public void testInactiveFingerprintsAreEvicted() {
+        var dedup = dedup(16);
+        intercept(dedup, new NullPointerException());
+        dedup.flush();
+        assertEquals(1, reports.size());
+        dedup.flush();
+        //nothing to report, npe slot is released
+        assertEquals(1, reports.size());
+        intercept(dedup, new NullPointerException());
+        assertEquals(2, firsts.size());
+    }
+
+    @Test
+    public void testEvictionKeepsProbeChain() {
+        var dedup = new DedupInterceptor(0, 2, Duration.ofSeconds(10), firsts::add, reports::add, clock::get);
+        //two of three fingerprints share a bucket of two slot table
+        var candidates = List.of(new IOException(), new IllegalStateException(), new NullPointerException());
+        Exception a = null;
+        Exception b = null;
+        for (int i = 0; i < candidates.size() && b == null; i++) {
+            for (int j = i + 1; j < candidates.size() && b == null; j++) {
+                if ((dedup.fingerprint(candidates.get(i)) & 1) == (dedup.fingerprint(candidates.get(j)) & 1)) {
+                    a = candidates.get(i);
+                    b = candidates.get(j);
+                }
+            }
+        }
+        dedup.accept(a);
+        dedup.accept(b);
+        dedup.flush();
+        dedup.accept(b);
+        //a is inactive and removed
+        dedup.flush();
+        dedup.accept(b);
+        assertEquals(List.of(a, b), firsts);
+        dedup.flush();
+        assertEquals(1, reports.get(2).entries().size());
+    }
+
+    @Test
+    public void testBoundedTable() {
+        var dedup = dedup(2);
+        intercept(dedup, new NullPointerException());
+        intercept(dedup, new IOException());
+        intercept(dedup, new IllegalStateException());
+        intercept(dedup, new IllegalStateException());
+        assertEquals(2, firsts.size());
+        dedup.close();
+        assertEquals(2, reports.get(0).untracked());
+        assertEquals(4, reports.get(0).total());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        var dedup = dedup(64);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        intercept(dedup, i % 2 == 0 ? new NullPointerException() : new IOException());
+                    }
+                });
+            }
+        }
+        dedup.flush();
+        assertEquals(2, firsts.size());
+        assertEquals(8000, reports.get(0).total());
+    }
+
+    @Test
+    public void testComposesWithInterceptor() {
+        var dedup = dedup(16);
+        var seen = new AtomicLong();
+        Consumer<Exception> counter = e -> seen.incrementAndGet();
+        Failure.withInterceptor(counter.andThen(dedup));
+        try {
+            Result.runCatching(() -> {throw new IllegalStateException();});
+            Result.runCatching(() -> {throw new IllegalStateException();});
+        } finally {
+            Failure.withInterceptor(null);
+        }
+        assertEquals(2, seen.get());
+        dedup.flush();
+        assertEquals(2, reports.get(0).total());
+    }
+}
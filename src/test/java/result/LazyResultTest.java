@@ -0,0 +1,96 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LazyResultTest {
+
+    @Test
+    public void testNothingRunsUntilTerminal() throws Exception {
+        var calls = new AtomicInteger();
+        var lazy = Result.lazy(() -> calls.incrementAndGet())
+                .map(i -> i * 10)
+                .mapCatching(i -> i + 1)
+                .filter(i -> i > 0);
+        assertEquals(0, calls.get());
+        assertFalse(lazy.isEvaluated());
+
+        assertEquals(11, lazy.getOrThrow().intValue());
+        assertTrue(lazy.isSuccess());
+        assertEquals(11, lazy.getOrElse(e -> -1).intValue());
+        assertEquals(1, calls.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        var lazy = Result.<Integer>lazy(() -> {throw new IOException();})
+                .map(i -> i * 10);
+        assertTrue(lazy.isFailure());
+        assertTrue(lazy.exceptionOrNull() instanceof IOException);
+        assertEquals(-1, lazy.recover(e -> -1).getOrNull().intValue());
+
+        var filtered = Result.lazy(() -> 1).filter(i -> i < 0);
+        assertTrue(filtered.exceptionOrNull() instanceof NoSuchElementException);
+        assertEquals("x", filtered.fold(v -> "v", e -> "x"));
+    }
+
+    @Test
+    public void testBranchesShareParent() throws Exception {
+        var calls = new AtomicInteger();
+        var parent = Result.lazy(() -> calls.incrementAndGet());
+        var a = parent.map(i -> "a" + i);
+        var b = parent.map(i -> "b" + i);
+        assertEquals("a1", a.getOrNull());
+        assertEquals("b1", b.getOrNull());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testComputedOnceConcurrently() throws Exception {
+        var calls = new AtomicInteger();
+        var lazy = Result.lazy(() -> {
+            calls.incrementAndGet();
+            Thread.sleep(50);
+            return 42;
+        });
+        int n = 100;
+        var latch = new CountDownLatch(n);
+        var sum = new AtomicInteger();
+        for (int i = 0; i < n; i++) {
+            AsyncResult.defaultExecutor().execute(() -> {
+                sum.addAndGet(lazy.getOrDefault(0));
+                latch.countDown();
+            });
+        }
+        latch.await();
+        assertEquals(1, calls.get());
+        assertEquals(42 * n, sum.get());
+    }
+
+    @Test
+    public void testThrowingStepComputedOnce() throws Exception {
+        var calls = new AtomicInteger();
+        var lazy = Result.lazy(() -> 1).map(i -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("bug");
+        });
+        for (int i = 0; i < 3; i++) {
+            try {
+                lazy.get();
+                fail("step exception is not rethrown");
+            } catch (IllegalStateException e) {
+                assertEquals("bug", e.getMessage());
+            }
+        }
+        assertEquals(1, calls.get());
+        assertTrue(lazy.isEvaluated());
+        assertTrue(lazy.toString().contains("bug"));
+    }
+}
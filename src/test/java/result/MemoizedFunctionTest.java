@@ -0,0 +1,158 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class MemoizedFunctionTest {
+
+    final AtomicLong clock = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+
+    Integer square(Integer i) throws IOException {
+        calls.incrementAndGet();
+        if (i < 0) {
+            throw new IOException("negative " + i);
+        }
+        return i * i;
+    }
+
+    MemoizedFunction<Integer, Integer> memoize(CachePolicy policy) {
+        return new MemoizedFunction<>(this::square, policy, clock::get);
+    }
+
+    @Test
+    public void testHits() throws Exception {
+        var f = Results.memoize(this::square, CachePolicy.of(10));
+        assertEquals(Success.of(4), f.apply(2));
+        assertEquals(Success.of(4), f.apply(2));
+        assertEquals(Success.of(9), f.apply(3));
+        assertEquals(2, calls.get());
+        assertEquals(new MemoizedFunction.Stats(1, 2, 0), f.stats());
+        assertEquals(1.0 / 3, f.stats().hitRatio(), 1e-9);
+    }
+
+    @Test
+    public void testNegativeCaching() throws Exception {
+        var f = memoize(CachePolicy.of(10).withFailureTtl(Duration.ofSeconds(1)));
+        var r = f.apply(-1);
+        var hit = f.apply(-1);
+        assertEquals(1, calls.get());
+        assertSame(r, hit);
+        assertEquals("negative -1", hit.exceptionOrNull().getMessage());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNotSame(r, f.apply(-1));
+        assertEquals(2, calls.get());
+        assertEquals(1, f.stats().evictions());
+    }
+
+    @Test
+    public void testFailuresNotCachedByDefault() throws Exception {
+        var f = memoize(CachePolicy.of(10));
+        assertTrue(f.apply(-1).exceptionOrNull().getStackTrace().length > 0);
+        f.apply(-1);
+        assertEquals(2, calls.get());
+        assertEquals(0, f.size());
+    }
+
+    @Test
+    public void testWaiterGetsError() throws Exception {
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var f = Results.<Integer, Integer>memoize(i -> {
+            loading.countDown();
+            release.await();
+            throw new AssertionError("boom");
+        }, CachePolicy.of(10));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var loader = executor.submit(() -> f.apply(1));
+            loading.await();
+            var waiter = executor.submit(() -> f.apply(1));
+            Thread.sleep(50);
+            release.countDown();
+            for (var future : List.of(loader, waiter)) {
+                try {
+                    future.get();
+                    fail("Error is not rethrown");
+                } catch (ExecutionException e) {
+                    assertEquals(AssertionError.class, e.getCause().getClass());
+                    assertEquals("boom", e.getCause().getMessage());
+                }
+            }
+        }
+        assertEquals(0, f.size());
+    }
+
+    @Test
+    public void testSuccessTtl() throws Exception {
+        var f = memoize(CachePolicy.of(10).withSuccessTtl(Duration.ofSeconds(5)));
+        f.apply(1);
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        f.apply(1);
+        assertEquals(1, calls.get());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        f.apply(1);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testSizeBound() throws Exception {
+        var f = memoize(CachePolicy.of(100));
+        for (int i = 0; i < 1000; i++) {
+            f.apply(i);
+            //keep key 0 hot
+            f.apply(0);
+        }
+        assertTrue(f.size() <= 100);
+        assertEquals(900, f.stats().evictions());
+        int before = calls.get();
+        f.apply(0);
+        assertEquals(before, calls.get());
+    }
+
+    @Test
+    public void testConcurrentLoadOnce() throws Exception {
+        var start = new CountDownLatch(1);
+        var f = Results.<Integer, Integer>memoize(i -> {
+            calls.incrementAndGet();
+            Thread.sleep(50);
+            return i;
+        }, CachePolicy.of(10));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 32; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    assertEquals(Success.of(7), f.apply(7));
+                });
+            }
+            start.countDown();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(31, f.stats().hits());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        var f = memoize(CachePolicy.of(10));
+        f.apply(1);
+        f.invalidate(1);
+        f.apply(1);
+        assertEquals(2, calls.get());
+        f.invalidateAll();
+        assertEquals(0, f.size());
+    }
+}
@@ -0,0 +1,73 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class OutcomeTest {
+
+    enum LookupError {NOT_FOUND, RATE_LIMITED}
+
+    static Outcome<String, LookupError> find(int id) {
+        return id > 0 ? Outcome.ok("user" + id) : Outcome.err(LookupError.NOT_FOUND);
+    }
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testOk() throws Exception {
+        var r = find(1).map(String::length).flatMap(n -> Outcome.ok(n * 2));
+        assertEquals(Outcome.ok(10), r);
+        assertTrue(r.isOk());
+        assertEquals(10, (int) r.getOrElse(e -> -1));
+        assertEquals(10, (int) r.getOrDefault(-1));
+        assertNull(r.errorOrNull());
+        assertEquals(Optional.of(10), r.optional());
+        assertEquals("ok 10", r.fold(v -> "ok " + v, e -> "err " + e));
+        assertEquals(Success.of(10), r.toResult(e -> new IOException(e.name())));
+    }
+
+    @Test
+    public void testErr() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        var r = find(0).map(String::length);
+        assertTrue(r.isErr());
+        assertEquals(LookupError.NOT_FOUND, r.errorOrNull());
+        assertEquals(-1, (int) r.getOrElse(e -> -1));
+        assertNull(r.getOrNull());
+        assertEquals(Optional.empty(), r.optional());
+        assertEquals("err NOT_FOUND", r.fold(v -> "ok " + v, e -> "err " + e));
+        assertEquals(Outcome.ok(0), r.recover(e -> 0));
+        assertEquals(Outcome.err("NOT_FOUND"), r.mapErr(Enum::name));
+        assertEquals(0, count.get());
+
+        var failure = r.toResult(e -> new IOException(e.name()));
+        assertEquals("NOT_FOUND", failure.exceptionOrNull().getMessage());
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testFilterAndCallbacks() throws Exception {
+        var seen = new StringBuilder();
+        find(1).filter(s -> s.length() > 10, LookupError.RATE_LIMITED)
+                .onOk(seen::append)
+                .onErr(e -> seen.append(e));
+        assertEquals("RATE_LIMITED", seen.toString());
+    }
+
+    @Test
+    public void testFromResult() throws Exception {
+        assertEquals(Outcome.ok(1), Outcome.fromResult(Success.of(1)));
+        var r = Outcome.fromResult(Result.runCatching(() -> {throw new IOException("io");}));
+        assertEquals("io", r.errorOrNull().getMessage());
+    }
+}
@@ -0,0 +1,86 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class PrimitiveResultTest {
+
+    @Test
+    public void testInt() throws Exception {
+        var r = IntResult.runCatching(() -> 2)
+                .map(i -> i * 3)
+                .mapCatching(i -> i + 1)
+                .filter(i -> i > 0)
+                .flatMap(i -> IntResult.of(i * 10));
+        assertTrue(r.isSuccess());
+        assertEquals(70, r.getOrThrow());
+        assertEquals(70, r.getOrElse(-1));
+        assertNull(r.exceptionOrNull());
+        assertEquals(Success.of(70), r.toResult());
+        assertEquals(r, IntResult.from(r.toResult()));
+    }
+
+    @Test
+    public void testIntFailure() throws Exception {
+        var r = IntResult.of(1).mapCatching(i -> {throw new IOException();});
+        assertTrue(r.isFailure());
+        assertTrue(r.exceptionOrNull() instanceof IOException);
+        assertEquals(-1, r.getOrElse(-1));
+        assertEquals(-2, r.getOrElse(e -> -2));
+        assertSame(r, r.map(i -> i + 1));
+        assertEquals(5, r.recover(e -> 5).getOrThrow());
+
+        var filtered = IntResult.of(1).filter(i -> i < 0);
+        assertTrue(filtered.exceptionOrNull() instanceof NoSuchElementException);
+        try {
+            filtered.getOrThrow();
+            fail("Should throw");
+        } catch (NoSuchElementException e) {
+            //ok
+        }
+    }
+
+    @Test
+    public void testInterceptorFiresOnce() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        try {
+            var r = IntResult.runCatching(() -> {throw new IOException();});
+            var boxed = r.toResult();
+            var back = IntResult.from(boxed);
+            var obj = back.mapToObj(Integer::toString);
+            assertSame(boxed, obj);
+            assertEquals(1, count.get());
+        } finally {
+            Failure.withInterceptor(null);
+        }
+    }
+
+    @Test
+    public void testFromNull() throws Exception {
+        Result<Integer> nullResult = Success.of(null);
+        assertTrue(IntResult.from(nullResult).exceptionOrNull() instanceof NoSuchElementException);
+    }
+
+    @Test
+    public void testLong() throws Exception {
+        var r = LongResult.runCatching(() -> Long.MAX_VALUE - 1).map(l -> l + 1);
+        assertEquals(Long.MAX_VALUE, r.getOrThrow());
+        assertEquals(Success.of(Long.MAX_VALUE), r.toResult());
+        assertEquals("7", LongResult.of(7).mapToObj(Long::toString).getOrNull());
+        assertTrue(LongResult.failure(new IOException()).isFailure());
+    }
+
+    @Test
+    public void testDouble() throws Exception {
+        var r = DoubleResult.runCatching(() -> 1.5).map(d -> d * 2).filter(d -> d > 2);
+        assertEquals(3.0, r.getOrThrow(), 0);
+        assertEquals(DoubleResult.of(3.0), r);
+        assertEquals(0.5, DoubleResult.runCatching(() -> {throw new IOException();}).getOrElse(0.5), 0);
+    }
+}
@@ -0,0 +1,100 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import result.Result.CheckedSupplier;
+
+public class RacingTest {
+
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    CheckedSupplier<String> slow(String value) {
+        return () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return value;
+        };
+    }
+
+    @Test
+    public void testFirstSuccessCancelsLosers() throws Exception {
+        var r = Results.firstSuccess(slow("slow"), () -> {throw new IOException();}, () -> "fast");
+        assertEquals(Success.of("fast"), r);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAllFail() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        var r = Results.<String>firstSuccess(
+                () -> {throw new IOException("a");},
+                () -> {throw new IOException("b");},
+                () -> {throw new IOException("c");});
+        var e = r.exceptionOrNull();
+        assertEquals(2, e.getSuppressed().length);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testHedge() throws Exception {
+        var calls = new AtomicInteger();
+        //fast primary, hedge is not started
+        var r = Results.firstSuccess(List.<CheckedSupplier<String>>of(() -> {
+            calls.incrementAndGet();
+            return "primary";
+        }, () -> {
+            calls.incrementAndGet();
+            return "hedge";
+        }), Duration.ofSeconds(5));
+        assertEquals(Success.of("primary"), r);
+        assertEquals(1, calls.get());
+
+        //slow primary, hedge wins and primary is cancelled
+        long start = System.nanoTime();
+        r = Results.firstSuccess(List.of(slow("primary"), () -> "hedge"), Duration.ofMillis(20));
+        assertEquals(Success.of("hedge"), r);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHedgeAfterFailure() throws Exception {
+        long start = System.nanoTime();
+        var r = Results.<String>firstSuccess(List.of(() -> {throw new IOException();}, () -> "second"), Duration.ofSeconds(10));
+        assertEquals(Success.of("second"), r);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testAllOf() throws Exception {
+        var r = Results.allOf(() -> {
+            Thread.sleep(20);
+            return 1;
+        }, () -> 2, () -> 3);
+        assertEquals(Success.of(List.of(1, 2, 3)), r);
+
+        var failed = Results.allOf(slow("slow"), () -> {throw new IOException("io");});
+        assertEquals("io", failed.exceptionOrNull().getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
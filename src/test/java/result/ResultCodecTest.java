@@ -0,0 +1,125 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ResultCodecTest {
+
+    final ResultCodec<String> codec = new ResultCodec<>(ResultCodec.ValueCodec.STRING, 4);
+
+    <T> Result<T> roundTrip(ResultCodec<T> c, Result<T> r, ByteBuffer buffer) {
+        c.encode(r, buffer);
+        buffer.flip();
+        var decoded = c.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        assertEquals(Success.of("héllo"), roundTrip(codec, Success.of("héllo"), ByteBuffer.allocate(64)));
+        assertEquals(Success.of("direct"), roundTrip(codec, Success.of("direct"), ByteBuffer.allocateDirect(64)));
+        assertSame(Result.unit(), roundTrip(codec, Success.of(null), ByteBuffer.allocate(64)));
+        var longs = new ResultCodec<>(ResultCodec.ValueCodec.LONG, 0);
+        assertEquals(Success.of(1L << 40), roundTrip(longs, Success.of(1L << 40), ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Result<String> failure = Result.runCatching(() -> {throw new FileNotFoundException("missing");});
+        var decoded = roundTrip(codec, failure, ByteBuffer.allocate(1024));
+        var e = decoded.exceptionOrNull();
+        assertEquals(FileNotFoundException.class, e.getClass());
+        assertEquals("missing", e.getMessage());
+        assertEquals(4, e.getStackTrace().length);
+        assertEquals(failure.exceptionOrNull().getStackTrace()[0].toString(), e.getStackTrace()[0].toString());
+    }
+
+    @Test
+    public void testUnknownException() throws Exception {
+        //no (String) constructor
+        Result<String> failure = Failure.of(new ResultCodec.UnknownException("com.example.Gone", "gone"));
+        var e = roundTrip(codec, failure, ByteBuffer.allocate(1024)).exceptionOrNull();
+        assertTrue(e instanceof ResultCodec.UnknownException);
+        assertEquals("com.example.Gone: gone", e.toString());
+
+        Result<String> noMessage = Failure.of(new IllegalStateException());
+        assertNull(roundTrip(codec, noMessage, ByteBuffer.allocate(1024)).exceptionOrNull().getMessage());
+    }
+
+    @Test
+    public void testUnknownNamesAreNotCached() throws Exception {
+        int cached = ResultCodec.cachedConstructors();
+        for (int i = 0; i < 100; i++) {
+            Result<String> failure = Failure.of(new ResultCodec.UnknownException("com.example.Gone" + i, "gone"));
+            roundTrip(codec, failure, ByteBuffer.allocate(1024));
+        }
+        assertEquals(cached, ResultCodec.cachedConstructors());
+    }
+
+    void assertCorrupted(ByteBuffer buffer) {
+        try {
+            codec.decode(buffer);
+            fail("corrupted input is decoded");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testCorruptedInput() throws Exception {
+        //string length beyond limit of heap buffer with larger backing array
+        var buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 0).putInt(40).put(new byte[40]).flip();
+        buffer.limit(10);
+        assertCorrupted(buffer);
+
+        assertCorrupted(ByteBuffer.allocate(8).put((byte) 0).putInt(-5).flip());
+        assertCorrupted(ByteBuffer.allocate(8).put((byte) 7).flip());
+        assertCorrupted(ByteBuffer.allocate(2).put((byte) 0).flip());
+
+        //negative and too many frames
+        for (short frames : new short[] {-1, 1000}) {
+            var b = ByteBuffer.allocate(64);
+            b.put((byte) 2);
+            ResultCodec.putString("java.io.IOException", b);
+            ResultCodec.putString(null, b);
+            b.putShort(frames).flip();
+            assertCorrupted(b);
+        }
+
+        var list = ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).flip();
+        try {
+            codec.decodeAll(list);
+            fail("corrupted list is decoded");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        List<Result<Integer>> results = List.of(Success.of(1), Failure.of(new IOException("io")), Success.of(3));
+        var ints = new ResultCodec<>(ResultCodec.ValueCodec.INT, 0);
+        var buffer = ByteBuffer.allocate(256);
+        ints.encodeAll(results, buffer);
+        buffer.flip();
+        var decoded = ints.decodeAll(buffer);
+        assertEquals(3, decoded.size());
+        assertEquals(Success.of(1), decoded.get(0));
+        assertEquals("io", decoded.get(1).exceptionOrNull().getMessage());
+        assertEquals(0, decoded.get(1).exceptionOrNull().getStackTrace().length);
+        assertEquals(Success.of(3), decoded.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadTag() {
+        codec.decode(ByteBuffer.wrap(new byte[] {7}));
+    }
+}
@@ -0,0 +1,71 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import result.ResultCollectors.Counts;
+
+public class ResultCollectorsTest {
+
+    static Result<Integer> result(int i) {
+        return i % 10 == 0 ? Failure.of(new IOException("" + i)) : Success.of(i);
+    }
+
+    @Test
+    public void testPartitioning() throws Exception {
+        var p = IntStream.range(0, 100).mapToObj(ResultCollectorsTest::result)
+                .collect(ResultCollectors.partitioning());
+        assertEquals(90, p.successes().size());
+        assertEquals(10, p.failures().size());
+        assertEquals("0", p.failures().get(0).getMessage());
+        assertEquals(1, p.successes().get(0).intValue());
+    }
+
+    @Test
+    public void testPartitioningParallel() throws Exception {
+        var p = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::result)
+                .collect(ResultCollectors.partitioning());
+        assertEquals(90_000, p.successes().size());
+        assertEquals(10_000, p.failures().size());
+        var expected = IntStream.range(0, 100_000).filter(i -> i % 10 != 0).boxed().toList();
+        assertEquals(expected, p.successes());
+        assertEquals("10", p.failures().get(1).getMessage());
+    }
+
+    @Test
+    public void testToResultList() throws Exception {
+        var ok = Stream.of(Success.of(1), Success.of(2)).collect(ResultCollectors.toResultList());
+        assertEquals(Success.of(List.of(1, 2)), ok);
+
+        var failed = IntStream.range(1, 100_000).parallel().mapToObj(ResultCollectorsTest::result)
+                .collect(ResultCollectors.toResultList());
+        assertEquals("10", failed.exceptionOrNull().getMessage());
+    }
+
+    @Test
+    public void testAccumulating() throws Exception {
+        var ok = Stream.of(Success.of(1), Success.of(2)).collect(ResultCollectors.accumulating());
+        assertEquals(Success.of(List.of(1, 2)), ok);
+
+        var failed = IntStream.range(0, 100).parallel().mapToObj(ResultCollectorsTest::result)
+                .collect(ResultCollectors.accumulating());
+        var e = failed.exceptionOrNull();
+        assertTrue(e instanceof AggregateException);
+        assertEquals(10, e.getSuppressed().length);
+        assertEquals("0", e.getSuppressed()[0].getMessage());
+        assertEquals("90", e.getSuppressed()[9].getMessage());
+    }
+
+    @Test
+    public void testCounting() throws Exception {
+        var counts = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::result)
+                .collect(ResultCollectors.counting());
+        assertEquals(new Counts(90_000, 10_000), counts);
+    }
+}
@@ -0,0 +1,60 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ResultEventsTest {
+
+    @Test
+    public void testEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable(FailureEvent.class);
+            recording.enable(RunCatchingEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            assertTrue(ResultEvents.failureEnabled);
+            assertTrue(ResultEvents.runCatchingEnabled);
+
+            Result.runCatching(() -> 1)
+                .mapCatching(i -> {throw new IOException("bad " + i);});
+            Result.runCatching(() -> {});
+
+            recording.stop();
+            var file = Files.createTempFile("result", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+        assertFalse(ResultEvents.failureEnabled);
+        assertFalse(ResultEvents.runCatchingEnabled);
+
+        var failures = events.stream().filter(e -> e.getEventType().getName().equals("result.Failure")).toList();
+        assertEquals(1, failures.size());
+        var failure = failures.get(0);
+        assertEquals(IOException.class.getName(), failure.getClass("exceptionClass").getName());
+        assertEquals("bad 1", failure.getString("message"));
+        assertTrue(failure.getString("callSite"), failure.getString("callSite").contains("ResultEventsTest.testEvents"));
+
+        var runs = events.stream().filter(e -> e.getEventType().getName().equals("result.RunCatching")).toList();
+        assertEquals(3, runs.size());
+        assertEquals("runCatching", runs.get(0).getString("operation"));
+        assertTrue(runs.get(0).getBoolean("success"));
+        assertEquals("mapCatching", runs.get(1).getString("operation"));
+        assertFalse(runs.get(1).getBoolean("success"));
+        assertEquals("runCatching", runs.get(2).getString("operation"));
+        assertTrue(runs.get(2).getBoolean("success"));
+    }
+}
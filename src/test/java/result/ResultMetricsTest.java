@@ -0,0 +1,108 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResultMetricsTest {
+
+    final ResultMetrics metrics = ResultMetrics.get();
+
+    @Before
+    public void setUp() {
+        metrics.reset();
+        metrics.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        metrics.setEnabled(false);
+        metrics.setLatencyEnabled(false);
+        metrics.reset();
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        Result.runCatching(() -> 1);
+        Result.runCatching(() -> 2);
+        Result.runCatching(() -> {throw new IOException();});
+        Success.of(1).mapCatching(i -> {throw new FileNotFoundException();});
+        Result.runCatching(() -> {});
+        //failures which are not outcomes of catching steps are not counted
+        Result.runCatching(() -> 3).filter(x -> false);
+        Failure.of(new IOException());
+
+        var snapshot = metrics.snapshot();
+        assertEquals(4, snapshot.successes());
+        assertEquals(2, snapshot.failures());
+        assertEquals(Map.of(IOException.class.getName(), 1L, FileNotFoundException.class.getName(), 1L),
+                snapshot.failuresByType());
+        assertEquals(2.0 / 6, snapshot.failureRatio(), 1e-9);
+        assertEquals(0, Arrays.stream(snapshot.latencyHistogram()).sum());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        metrics.setEnabled(false);
+        Result.runCatching(() -> 1);
+        Result.runCatching(() -> {throw new IOException();});
+        assertEquals(0, metrics.getSuccessCount());
+        assertEquals(0, metrics.getFailureCount());
+    }
+
+    @Test
+    public void testLatency() throws Exception {
+        metrics.setLatencyEnabled(true);
+        Result.runCatching(() -> {
+            Thread.sleep(2);
+            return 1;
+        });
+        long[] h = metrics.getLatencyHistogram();
+        assertEquals(1, Arrays.stream(h).sum());
+        //2ms is between 2^20 and 2^30 nanoseconds
+        assertEquals(1, Arrays.stream(h, 21, 31).sum());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        int threads = 64;
+        int perThread = 10_000;
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        int x = i;
+                        Result.runCatching(() -> {
+                            if (x % 10 == 0) {
+                                throw new IOException();
+                            }
+                            return x;
+                        });
+                    }
+                });
+            }
+        }
+        assertEquals(threads * perThread / 10, metrics.getFailureCount());
+        assertEquals(threads * perThread * 9 / 10, metrics.getSuccessCount());
+        assertEquals(0.1, metrics.getFailureRatio(), 1e-9);
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        var name = ResultMetrics.registerMBean();
+        assertEquals(name, ResultMetrics.registerMBean());
+        Result.runCatching(() -> 1);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(name, "SuccessCount"));
+        assertEquals(true, server.getAttribute(name, "Enabled"));
+    }
+}
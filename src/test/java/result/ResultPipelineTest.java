@@ -0,0 +1,101 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ResultPipelineTest {
+
+    final ResultPipeline<String, Integer> pipeline = ResultPipeline.<String>start()
+            .mapCatching(Integer::parseInt)
+            .map(i -> i * 2)
+            .filter(i -> i > 0)
+            .onSuccessCatching(i -> {
+                if (i == 42) {
+                    throw new IOException("42");
+                }
+            })
+            .mapCatching(i -> 100 / (i - 10));
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testSameAsChain() throws Exception {
+        for (String s : new String[] {"1", "x", "-1", "21", "5", "7"}) {
+            var expected = chain(s);
+            var actual = pipeline.apply(s);
+            assertEquals(s, expected.getOrNull(), actual.getOrNull());
+            assertEquals(s, expected.fold(v -> null, Object::getClass), actual.fold(v -> null, Object::getClass));
+            assertEquals(s, expected.fold(v -> null, Exception::getMessage), actual.fold(v -> null, Exception::getMessage));
+        }
+    }
+
+    Result<Integer> chain(String s) {
+        return Success.of(s)
+                .mapCatching(Integer::parseInt)
+                .map(i -> i * 2)
+                .filter(i -> i > 0)
+                .onSuccessCatching(i -> {
+                    if (i == 42) {
+                        throw new IOException("42");
+                    }
+                })
+                .mapCatching(i -> 100 / (i - 10));
+    }
+
+    @Test
+    public void testSteps() throws Exception {
+        assertEquals(Success.of(25), pipeline.apply("7"));
+        assertTrue(pipeline.apply("x").exceptionOrNull() instanceof NumberFormatException);
+        assertSame(Result.NO_SUCH_ELEMENT, pipeline.apply("-1").exceptionOrNull());
+        assertTrue(pipeline.apply("21").exceptionOrNull() instanceof IOException);
+        assertTrue(pipeline.apply("5").exceptionOrNull() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void testNonCatchingStepPropagates() throws Exception {
+        var p = ResultPipeline.<String>start().map(s -> s.length());
+        try {
+            p.apply(null);
+            fail("Should throw");
+        } catch (NullPointerException e) {
+            //ok, same as Result.map
+        }
+    }
+
+    @Test
+    public void testInterceptorOncePerFailure() throws Exception {
+        var count = new AtomicInteger();
+        Failure.withInterceptor(e -> count.incrementAndGet());
+        pipeline.apply("x");
+        pipeline.apply("-1");
+        pipeline.apply("7");
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void testApplyTo() throws Exception {
+        Result<String> failure = Failure.of(new IOException());
+        assertSame(failure, pipeline.applyTo(failure));
+        assertEquals(Success.of(25), pipeline.applyTo(Success.of("7")));
+        assertEquals(Success.of("a"), ResultPipeline.<String>start().apply("a"));
+    }
+
+    @Test
+    public void testReusable() throws Exception {
+        var base = ResultPipeline.<Integer>start().map(i -> i + 1);
+        var twice = base.map(i -> i * 2);
+        var filtered = base.filter(i -> i > 10);
+        assertEquals(Success.of(4), twice.apply(1));
+        assertTrue(filtered.apply(1).exceptionOrNull() instanceof NoSuchElementException);
+        assertEquals(Success.of(2), base.apply(1));
+    }
+}
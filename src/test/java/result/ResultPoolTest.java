@@ -0,0 +1,130 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ResultPoolTest {
+
+    static class Conn implements AutoCloseable {
+        volatile boolean closed;
+        volatile boolean healthy = true;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    final AtomicInteger created = new AtomicInteger();
+    final AtomicLong clock = new AtomicLong();
+    final ResultPool<Conn> pool = new ResultPool<>(() -> {
+        created.incrementAndGet();
+        return new Conn();
+    }, 2, Duration.ofSeconds(10), c -> c.healthy, clock::get);
+
+    @Test
+    public void testReuse() throws Exception {
+        Conn first;
+        try (var lease = pool.lease()) {
+            first = lease.getOrThrow().get();
+        }
+        assertFalse(first.closed);
+        assertEquals(1, pool.idleCount());
+        try (var lease = pool.lease()) {
+            assertSame(first, lease.getOrThrow().get());
+        }
+        assertEquals(1, created.get());
+        assertEquals(Success.of(1), pool.use(c -> 1));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testFailureEvicts() throws Exception {
+        var r = pool.use(c -> {throw new IOException();});
+        assertTrue(r.exceptionOrNull() instanceof IOException);
+        assertEquals(0, pool.size());
+        assertEquals(0, pool.idleCount());
+
+        var lease = pool.lease().getOrThrow();
+        var conn = lease.get();
+        lease.invalidate();
+        lease.close();
+        assertTrue(conn.closed);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testExhausted() throws Exception {
+        var a = pool.lease();
+        var b = pool.lease();
+        var c = pool.lease();
+        assertTrue(c.exceptionOrNull() instanceof PoolExhaustedException);
+        a.close();
+        //double close is ignored
+        a.close();
+        assertEquals(1, pool.idleCount());
+        assertTrue(pool.lease().isSuccess());
+        b.close();
+    }
+
+    @Test
+    public void testMaxIdleAndHealthCheck() throws Exception {
+        var conn = pool.lease().getOrThrow();
+        conn.close();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        pool.evictIdle();
+        assertTrue(conn.get().closed);
+        assertEquals(0, pool.size());
+
+        var sick = pool.lease().getOrThrow();
+        sick.close();
+        sick.get().healthy = false;
+        try (var lease = pool.lease()) {
+            assertNotSame(sick.get(), lease.getOrThrow().get());
+        }
+        assertTrue(sick.get().closed);
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        var leased = pool.lease().getOrThrow();
+        var idle = pool.lease().getOrThrow();
+        idle.close();
+        pool.close();
+        assertTrue(idle.get().closed);
+        assertFalse(leased.get().closed);
+        leased.close();
+        assertTrue(leased.get().closed);
+        assertTrue(pool.lease().exceptionOrNull() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        var p = new ResultPool<>(Conn::new, 8, Duration.ofMinutes(1), c -> true);
+        var used = new AtomicInteger();
+        var violations = new AtomicInteger();
+        try (var executor = Executors.newFixedThreadPool(16)) {
+            for (int t = 0; t < 16; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        p.use(c -> c.closed ? violations.incrementAndGet() : used.incrementAndGet());
+                        if (p.size() > 8) {
+                            violations.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        assertTrue(used.get() > 0);
+        assertEquals(0, violations.get());
+        assertEquals(p.size(), p.idleCount());
+    }
+}
@@ -0,0 +1,213 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+public class ResultProcessorTest {
+
+    /**
+     * Synchronous publisher of range which records demand.
+     */
+    static class RangePublisher implements Flow.Publisher<Integer> {
+        final int count;
+        final List<Long> requests = Collections.synchronizedList(new ArrayList<>());
+        final AtomicLong maxOutstanding = new AtomicLong();
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                long demand;
+                int next;
+                boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    requests.add(n);
+                    demand += n;
+                    maxOutstanding.accumulateAndGet(demand, Math::max);
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < count) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    if (next == count) {
+                        next++;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    static <X> CompletableFuture<List<X>> collect(Flow.Publisher<X> publisher) {
+        var list = Collections.synchronizedList(new ArrayList<X>());
+        var done = new CompletableFuture<List<X>>();
+        publisher.subscribe(new Flow.Subscriber<X>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(X item) {
+                list.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(list);
+            }
+        });
+        return done;
+    }
+
+    static Integer check(Integer i) throws IOException {
+        if (i % 10 == 3) {
+            throw new IOException("bad " + i);
+        }
+        return i * 2;
+    }
+
+    @Test
+    public void testOrderedResults() throws Exception {
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var processor = new ResultProcessor<Integer, Integer>(i -> {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+                return check(i);
+            }, executor, 8, 4, false);
+            var results = collect(processor);
+            var source = new RangePublisher(200);
+            source.subscribe(processor);
+            var list = results.get(10, TimeUnit.SECONDS);
+            assertEquals(200, list.size());
+            for (int i = 0; i < 200; i++) {
+                if (i % 10 == 3) {
+                    assertEquals("bad " + i, list.get(i).exceptionOrNull().getMessage());
+                } else {
+                    assertEquals(Success.of(i * 2), list.get(i));
+                }
+            }
+            assertTrue(source.maxOutstanding.get() <= 8);
+            assertEquals(8L, (long) source.requests.get(0));
+            assertTrue(source.requests.stream().skip(1).allMatch(n -> n == 4));
+        }
+    }
+
+    @Test
+    public void testDeadLetters() throws Exception {
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var processor = new ResultProcessor<Integer, Integer>(ResultProcessorTest::check, executor, 4, 2, true);
+            var results = collect(processor);
+            var dead = collect(processor.deadLetters());
+            new RangePublisher(100).subscribe(processor);
+            var list = results.get(10, TimeUnit.SECONDS);
+            var deadList = dead.get(10, TimeUnit.SECONDS);
+            assertEquals(90, list.size());
+            assertTrue(list.stream().allMatch(Result::isSuccess));
+            assertEquals(10, deadList.size());
+            assertEquals(3, (int) deadList.get(0).item());
+            assertEquals("bad 93", deadList.get(9).exception().getMessage());
+        }
+    }
+
+    @Test
+    public void testUpstreamError() throws Exception {
+        var processor = new ResultProcessor<Integer, Integer>(ResultProcessorTest::check);
+        var results = collect(processor);
+        var count = new AtomicInteger();
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                count.addAndGet((int) n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        processor.onNext(1);
+        processor.onError(new IllegalStateException("boom"));
+        try {
+            results.get(10, TimeUnit.SECONDS);
+            fail("Should fail");
+        } catch (java.util.concurrent.ExecutionException e) {
+            assertEquals("boom", e.getCause().getMessage());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDeadLettersDisabled() {
+        new ResultProcessor<Integer, Integer>(ResultProcessorTest::check).deadLetters();
+    }
+
+    @Test(timeout = 30_000)
+    public void testBoundedExecutor() throws Exception {
+        int count = 5000;
+        var received = new AtomicInteger();
+        var done = new CompletableFuture<Void>();
+        try (var executor = Executors.newFixedThreadPool(1)) {
+            var processor = new ResultProcessor<Integer, Integer>(i -> i, executor, 4, 2, false);
+            processor.subscribe(new Flow.Subscriber<Result<Integer>>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    //slow consumer requesting from another thread, so downstream buffer fills up
+                    Thread.startVirtualThread(() -> {
+                        while (!done.isDone()) {
+                            s.request(50);
+                            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(Result<Integer> item) {
+                    received.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    done.complete(null);
+                }
+            });
+            new RangePublisher(count).subscribe(processor);
+            done.get();
+        }
+        assertEquals(count, received.get());
+    }
+}
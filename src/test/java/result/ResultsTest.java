@@ -0,0 +1,131 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ResultsTest {
+
+    static final List<Integer> NUMBERS = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testTraverse() throws Exception {
+        var r = Results.traverse(List.of("1", "2", "3"), Integer::parseInt);
+        assertEquals(Success.of(List.of(1, 2, 3)), r);
+
+        var f = Results.traverse(List.of("1", "x", "y"), Integer::parseInt);
+        assertTrue(f.exceptionOrNull() instanceof NumberFormatException);
+        assertTrue(f.exceptionOrNull().getMessage().contains("\"x\""));
+    }
+
+    @Test
+    public void testSequence() throws Exception {
+        Result<Integer> failure = Failure.of(new IOException());
+        assertEquals(Success.of(List.of(1, 2)), Results.sequence(List.of(Success.of(1), Success.of(2))));
+        assertSame(failure, Results.sequence(List.of(Success.of(1), failure, Success.of(2))));
+    }
+
+    @Test
+    public void testTraverseParallelKeepsOrder() throws Exception {
+        var r = Results.traverseParallel(NUMBERS, i -> i * 2);
+        var list = r.getOrThrow();
+        assertEquals(NUMBERS.size(), list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i * 2, list.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testTraverseParallelFailFast() throws Exception {
+        var processed = new AtomicInteger();
+        var r = Results.traverseParallel(NUMBERS, i -> {
+            processed.incrementAndGet();
+            if (i == 10) {
+                throw new IOException("bad " + i);
+            }
+            return i;
+        });
+        assertTrue(r.exceptionOrNull() instanceof IOException);
+        assertTrue(processed.get() < NUMBERS.size());
+    }
+
+    @Test
+    public void testTraverseParallelVirtualThreads() throws Exception {
+        var items = NUMBERS.subList(0, 1000);
+        long start = System.nanoTime();
+        var r = Results.traverseParallel(items, i -> {
+            Thread.sleep(50);
+            return i + 1;
+        }, AsyncResult.defaultExecutor(), items.size());
+        assertEquals(1000, r.getOrThrow().get(999).intValue());
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+        var release = new CountDownLatch(1);
+        var count = new AtomicInteger();
+        var old = Failure.withInterceptor(e -> count.incrementAndGet());
+        try {
+            var failed = Results.traverseParallel(items, i -> {
+                if (i == 500) {
+                    throw new IOException();
+                }
+                release.await();
+                return i;
+            }, AsyncResult.defaultExecutor(), items.size());
+            assertTrue(failed.exceptionOrNull() instanceof IOException);
+            //cancelled workers are interrupted, their exceptions do not become failures
+            Thread.sleep(100);
+            assertEquals(1, count.get());
+        } finally {
+            release.countDown();
+            Failure.withInterceptor(old);
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testNestedOnCommonPool() throws Exception {
+        var outer = NUMBERS.subList(0, 64);
+        var r = Results.traverseParallel(outer, i -> Results.traverseParallel(NUMBERS.subList(0, 1000), j -> i + j)
+                .getOrThrow().size());
+        assertEquals(64, r.getOrThrow().size());
+        //from parallel stream
+        assertEquals(64, outer.parallelStream()
+                .map(i -> Results.traverseParallel(NUMBERS.subList(0, 1000), j -> i + j))
+                .filter(Result::isSuccess)
+                .count());
+        //nested on small pool, every element blocks for a while
+        var pool = new ForkJoinPool(2);
+        try {
+            var nested = Results.traverseParallel(outer, i -> Results.traverseParallel(NUMBERS.subList(0, 20), j -> {
+                Thread.sleep(1);
+                return i + j;
+            }, pool, 2).getOrThrow().size(), pool, 2);
+            assertEquals(64, nested.getOrThrow().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSequenceParallel() throws Exception {
+        var results = NUMBERS.stream().map(Success::of).toList();
+        assertEquals(NUMBERS, Results.sequenceParallel(results).getOrThrow());
+
+        Result<Integer> failure = Failure.of(new IOException());
+        var withFailure = NUMBERS.stream().map(i -> i == 5000 ? failure : Success.of(i)).toList();
+        assertSame(failure, Results.sequenceParallel(withFailure));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertEquals(Success.of(List.of()), Results.traverseParallel(List.<Integer>of(), i -> i));
+        assertEquals(Success.of(List.of()), Results.sequence(List.<Result<Integer>>of()));
+    }
+}
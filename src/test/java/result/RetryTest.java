@@ -0,0 +1,127 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RetryTest {
+
+    final RetryPolicy policy = RetryPolicy.of(4).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5), 2);
+
+    @After
+    public void tearDown() {
+        Failure.withInterceptor(null);
+    }
+
+    @Test
+    public void testSucceedsAfterRetries() throws Exception {
+        var attempts = new AtomicInteger();
+        var r = Result.retry(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("attempt " + attempts.get());
+            }
+            return "ok";
+        }, policy);
+        assertEquals(Success.of("ok"), r);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testExhausted() throws Exception {
+        var intercepted = new AtomicInteger();
+        Failure.withInterceptor(e -> intercepted.incrementAndGet());
+        var attempts = new AtomicInteger();
+        var r = Result.retry(() -> {throw new IOException("attempt " + attempts.incrementAndGet());}, policy);
+        var e = r.exceptionOrNull();
+        assertEquals("attempt 4", e.getMessage());
+        assertEquals(3, e.getSuppressed().length);
+        assertEquals("attempt 1", e.getSuppressed()[0].getMessage());
+        assertEquals(1, intercepted.get());
+    }
+
+    @Test
+    public void testRetryOn() throws Exception {
+        var attempts = new AtomicInteger();
+        var r = Result.retry(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        }, policy.retryOn(IOException.class));
+        assertTrue(r.exceptionOrNull() instanceof IllegalStateException);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testDelay() throws Exception {
+        var p = RetryPolicy.of(10).withBackoff(Duration.ofMillis(10), Duration.ofMillis(50), 2).withJitter(0);
+        assertEquals(10_000_000, p.delayNanos(1));
+        assertEquals(40_000_000, p.delayNanos(3));
+        assertEquals(50_000_000, p.delayNanos(5));
+        var jittered = p.withJitter(0.5);
+        for (int i = 0; i < 100; i++) {
+            long d = jittered.delayNanos(2);
+            assertTrue(d > 10_000_000 && d <= 20_000_000);
+        }
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        var intercepted = new AtomicInteger();
+        Failure.withInterceptor(e -> intercepted.incrementAndGet());
+        var attempts = new AtomicInteger();
+        var ok = AsyncResult.retry(() -> {
+            if (attempts.incrementAndGet() < 4) {
+                throw new IOException();
+            }
+            return 42;
+        }, policy);
+        assertEquals(Success.of(42), ok.await(Duration.ofSeconds(5)));
+        assertEquals(0, intercepted.get());
+
+        var failed = AsyncResult.retry(() -> {throw new IOException();}, policy).await(Duration.ofSeconds(5));
+        assertEquals(3, failed.exceptionOrNull().getSuppressed().length);
+        assertEquals(1, intercepted.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void testAsyncCompletesOnRejection() throws Exception {
+        Executor rejecting = r -> {throw new RejectedExecutionException("shut down");};
+        var rejected = AsyncResult.retry(() -> 1, policy, Executors.newSingleThreadScheduledExecutor(), rejecting).await();
+        assertTrue(rejected.exceptionOrNull() instanceof RejectedExecutionException);
+
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        var notScheduled = AsyncResult.retry(() -> {throw new IOException();}, policy, scheduler, Runnable::run).await();
+        assertTrue(notScheduled.exceptionOrNull() instanceof IOException);
+        assertTrue(notScheduled.exceptionOrNull().getSuppressed()[0] instanceof RejectedExecutionException);
+
+        //executor rejects the third attempt
+        var executed = new AtomicInteger();
+        Executor closing = r -> {
+            if (executed.incrementAndGet() > 2) {
+                throw new RejectedExecutionException("shut down");
+            }
+            r.run();
+        };
+        var attempts = new AtomicInteger();
+        var lateRejected = AsyncResult.retry(() -> {throw new IOException("attempt " + attempts.incrementAndGet());},
+                policy, Executors.newSingleThreadScheduledExecutor(), closing).await();
+        var last = lateRejected.exceptionOrNull();
+        assertEquals("attempt 2", last.getMessage());
+        assertEquals(2, last.getSuppressed().length);
+        assertTrue(last.getSuppressed()[0] instanceof RejectedExecutionException);
+        assertEquals("attempt 1", last.getSuppressed()[1].getMessage());
+    }
+
+    @Test(timeout = 10_000, expected = AssertionError.class)
+    public void testAsyncCompletesOnError() throws Exception {
+        AsyncResult.retry(() -> {throw new AssertionError();}, policy).await();
+    }
+}
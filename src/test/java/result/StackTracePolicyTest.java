@@ -0,0 +1,54 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class StackTracePolicyTest {
+
+    @Test
+    public void testStacklessException() throws Exception {
+        var res = Result.runCatching(() -> {throw new StacklessException("expected");});
+        assertEquals(0, res.exceptionOrNull().getStackTrace().length);
+        res.exceptionOrNull().addSuppressed(new IOException());
+        assertEquals(1, res.exceptionOrNull().getSuppressed().length);
+
+        var failure = Result.failure("no stack");
+        assertTrue(failure.exceptionOrNull() instanceof StacklessException);
+        assertEquals("no stack", failure.exceptionOrNull().getMessage());
+        assertEquals(0, failure.exceptionOrNull().getStackTrace().length);
+    }
+
+    @Test
+    public void testFailureDoesNotChangeException() throws Exception {
+        var e = new IOException();
+        int frames = e.getStackTrace().length;
+        Failure.of(e);
+        assertEquals(frames, e.getStackTrace().length);
+        Result.runCatching(() -> 1).filter(x -> false);
+        assertTrue(Result.NO_SUCH_ELEMENT.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testTrim() throws Exception {
+        var root = new IllegalStateException("root");
+        var middle = new IOException("middle", root);
+        var top = new Exception("top", middle);
+        top.addSuppressed(new IllegalArgumentException("suppressed"));
+
+        var failure = new Failure<Integer>(top).trim(2, 1);
+        assertSame(top, failure.exception());
+        assertEquals(2, top.getStackTrace().length);
+        assertEquals(2, middle.getStackTrace().length);
+        assertEquals(0, root.getStackTrace().length);
+        assertEquals(2, top.getSuppressed()[0].getStackTrace().length);
+        assertSame(root, middle.getCause());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTrimLimit() throws Exception {
+        new Failure<Integer>(new IOException()).trim(-1, 0);
+    }
+}
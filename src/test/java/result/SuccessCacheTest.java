@@ -0,0 +1,32 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class SuccessCacheTest {
+
+    @Test
+    public void testShared() throws Exception {
+        assertSame(Result.unit(), Result.runCatching(() -> {}));
+        assertSame(Success.of(null), Result.unit());
+        assertSame(Success.of(true), Success.of(Boolean.TRUE));
+        assertSame(Success.of(false), Result.lift((Integer i) -> i > 0).apply(-1));
+        assertSame(Success.of(-128), Success.of(-128));
+        assertSame(Success.of(127L), Success.of(127L));
+        assertSame(Success.of(Optional.empty()), Success.of(Optional.empty()));
+        assertNotSame(Success.of(128), Success.of(128));
+        assertNotSame(Success.of("a"), Success.of("a"));
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        assertEquals(new Success<>(1), Success.of(1));
+        assertEquals(new Success<>(1).hashCode(), Success.of(1).hashCode());
+        assertEquals(new Success<>(null), Result.unit());
+        assertNotEquals(Success.of(1), Success.of(1L));
+        assertEquals(Success.of(Optional.of(1)), Success.of(Optional.of(1)));
+    }
+}
@@ -0,0 +1,125 @@
+package result;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ValidatedTest {
+
+    record User(String name, String email, int age) {}
+
+    static Validated<String, String> name(String s) {
+        return Validated.of(s, n -> !n.isBlank(), "name is blank");
+    }
+
+    static Validated<String, String> email(String s) {
+        return Validated.<String, String>of(s, e -> e.contains("@"), "email has no @")
+                .ensure(e -> e.length() < 20, "email is too long");
+    }
+
+    static Validated<String, Integer> age(int a) {
+        return Validated.of(a, x -> x >= 0, "age is negative");
+    }
+
+    @Test
+    public void testValid() throws Exception {
+        var user = Validated.map3(name("joe"), email("joe@x.org"), age(30), User::new);
+        assertTrue(user.isValid());
+        assertEquals(new User("joe", "joe@x.org", 30), user.getOrElse(null));
+        assertEquals(List.of(), user.errors());
+        assertEquals(Success.of(new User("joe", "joe@x.org", 30)), user.toResult());
+    }
+
+    @Test
+    public void testAccumulates() throws Exception {
+        var user = Validated.map3(name(" "), email("joe"), age(-1), User::new);
+        assertFalse(user.isValid());
+        assertEquals(List.of("name is blank", "email has no @", "age is negative"), user.errors());
+
+        var e = (ValidationException) user.toResult().exceptionOrNull();
+        assertEquals(3, e.getErrors().size());
+        assertEquals("3 validation errors: name is blank; email has no @; age is negative", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void testSingleInvalidSharesErrors() throws Exception {
+        var bad = email("joe-with-a-very-long-name@x.org");
+        var r = Validated.map2(name("joe"), bad, (n, m) -> n + m);
+        assertSame(bad.errors(), r.errors());
+        assertEquals("1 validation error: email is too long", r.toResult().exceptionOrNull().getMessage());
+    }
+
+    @Test
+    public void testMap4AndFlatMap() throws Exception {
+        Validated<String, Integer> one = Validated.valid(1);
+        Validated<String, Integer> bad = Validated.invalid("bad");
+        assertEquals(Validated.valid(10), Validated.map4(one, one, one, Validated.valid(7), (a, b, c, d) -> a + b + c + d));
+        assertEquals(List.of("bad", "bad"), Validated.map4(bad, one, bad, one, (a, b, c, d) -> 0).errors());
+        assertEquals(Validated.valid(2), one.flatMap(i -> Validated.valid(i + 1)));
+        assertSame(bad, bad.flatMap(i -> Validated.valid(i + 1)));
+        assertSame(bad, bad.map(i -> i + 1));
+        assertEquals("bad", bad.fold(Object::toString, errors -> errors.get(0)));
+    }
+
+    @Test
+    public void testSequence() throws Exception {
+        assertEquals(Validated.valid(List.of(1, 2)), Validated.sequence(List.of(age(1), age(2))));
+        var r = Validated.sequence(List.of(age(1), age(-2), age(-3)));
+        assertEquals(List.of("age is negative", "age is negative"), r.errors());
+    }
+
+    @Test
+    public void testFromResult() throws Exception {
+        assertEquals(Validated.valid(1), Validated.fromResult(Success.of(1), Exception::getMessage));
+        var r = Validated.fromResult(Result.<Integer>runCatching(() -> {throw new IOException("io");}), Exception::getMessage);
+        assertEquals(List.of("io"), r.errors());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyErrors() {
+        Validated.invalid(List.of());
+    }
+
+    @Test
+    public void testInvalidCopiesErrors() {
+        try {
+            new Validated.Invalid<String, String>(List.of());
+            fail("empty errors are accepted");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+        var errors = new ArrayList<>(List.of("a"));
+        var invalid = new Validated.Invalid<String, String>(errors);
+        errors.add("b");
+        assertEquals(List.of("a"), invalid.errors());
+        try {
+            invalid.errors().add("c");
+            fail("errors are modifiable");
+        } catch (UnsupportedOperationException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testSerializedExceptionKeepsMessage() throws Exception {
+        var e = new ValidationException(List.of("name is blank", new Object()));
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(e);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var copy = (ValidationException) in.readObject();
+            assertEquals(e.getMessage(), copy.getMessage());
+            assertEquals(List.of(), copy.getErrors());
+        }
+    }
+}